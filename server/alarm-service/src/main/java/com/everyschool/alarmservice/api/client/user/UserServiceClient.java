@@ -1,6 +1,8 @@
 package com.everyschool.alarmservice.api.client.user;
 
+import com.everyschool.alarmservice.api.client.user.response.UserFcmInfo;
 import com.everyschool.alarmservice.api.client.user.response.UserInfo;
+import com.everyschool.alarmservice.api.client.user.resquest.UserFcmInfoRequest;
 import com.everyschool.alarmservice.api.client.user.resquest.UserIdRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
@@ -20,4 +22,7 @@ public interface UserServiceClient {
 
     @GetMapping("/user-service/client/v1/user-fcm-info/{userKey}")
     String searchUserFcmByUserKey(@PathVariable(name = "userKey") String userKey);
+
+    @PostMapping("/user-service/client/v1/user-fcm-infos")
+    List<UserFcmInfo> searchUserFcmInfos(@RequestBody UserFcmInfoRequest request);
 }
@@ -0,0 +1,27 @@
+package com.everyschool.alarmservice.api.client.user.response;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Data
+public class UserFcmInfo {
+
+    private Long userId;
+    private String userKey;
+    private char userType;      //S:학생, T:교사, M:마더, F:파더
+    private String userName;
+    private Long schoolClassId; //학급 키(학생, 교사일 경우만)
+    private String fcmToken;    //FCM 토큰이 없는 경우 null
+
+    @Builder
+    private UserFcmInfo(Long userId, String userKey, char userType, String userName, Long schoolClassId, String fcmToken) {
+        this.userId = userId;
+        this.userKey = userKey;
+        this.userType = userType;
+        this.userName = userName;
+        this.schoolClassId = schoolClassId;
+        this.fcmToken = fcmToken;
+    }
+}
@@ -0,0 +1,22 @@
+package com.everyschool.alarmservice.api.client.user.resquest;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class UserFcmInfoRequest {
+
+    private List<String> userKeys = new ArrayList<>();
+    private List<Long> userIds = new ArrayList<>();
+
+    @Builder
+    private UserFcmInfoRequest(List<String> userKeys, List<Long> userIds) {
+        this.userKeys = userKeys == null ? new ArrayList<>() : userKeys;
+        this.userIds = userIds == null ? new ArrayList<>() : userIds;
+    }
+}
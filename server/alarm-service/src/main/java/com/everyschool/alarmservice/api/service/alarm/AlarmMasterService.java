@@ -1,7 +1,9 @@
 package com.everyschool.alarmservice.api.service.alarm;
 
 import com.everyschool.alarmservice.api.client.user.UserServiceClient;
+import com.everyschool.alarmservice.api.client.user.response.UserFcmInfo;
 import com.everyschool.alarmservice.api.client.user.response.UserInfo;
+import com.everyschool.alarmservice.api.client.user.resquest.UserFcmInfoRequest;
 import com.everyschool.alarmservice.api.client.user.resquest.UserIdRequest;
 import com.everyschool.alarmservice.api.controller.alarm.response.AlarmResponse;
 import com.everyschool.alarmservice.api.controller.alarm.response.RemoveAlarmResponse;
@@ -40,18 +42,25 @@ public class AlarmMasterService {
         UserInfo sender = userServiceClient.searchUserInfo(token);
         log.debug("sender = {}", sender);
 
-        Map<Long, String> recipientsInfo = new HashMap<>();
-        for (String userKeys : dto.getRecipientUserKeys()) {
-            Long userId = userServiceClient.searchUserInfoByUserKey(userKeys).getUserId();
-            String fcmToken = userServiceClient.searchUserFcmByUserKey(userKeys);
+        List<UserFcmInfo> recipients = userServiceClient.searchUserFcmInfos(UserFcmInfoRequest.builder()
+                .userKeys(dto.getRecipientUserKeys())
+                .build());
 
-            recipientsInfo.put(userId, fcmToken);
+        Map<Long, String> recipientsInfo = new HashMap<>();
+        for (UserFcmInfo recipient : recipients) {
+            if (recipient.getFcmToken() == null) {
+                log.debug("FCM 토큰이 없는 회원은 제외. userId = {}", recipient.getUserId());
+                continue;
+            }
+            recipientsInfo.put(recipient.getUserId(), recipient.getFcmToken());
         }
         log.debug("recipientsInfo = {}", recipientsInfo);
 
-        String result = fcmNotificationService.sendMultiNotification(new ArrayList<>(recipientsInfo.values()), dto.getTitle(),
-                dto.getContent(), dto.getType(), sender.getUserName());
-        log.debug("fcm alarm result = {}", result);
+        if (!recipientsInfo.isEmpty()) {
+            String result = fcmNotificationService.sendMultiNotification(new ArrayList<>(recipientsInfo.values()), dto.getTitle(),
+                    dto.getContent(), dto.getType(), sender.getUserName());
+            log.debug("fcm alarm result = {}", result);
+        }
 
 
         AlarmMaster alarmMaster = AlarmMaster.createAlarmMaster(dto.getTitle(), dto.getContent(), dto.getType(),
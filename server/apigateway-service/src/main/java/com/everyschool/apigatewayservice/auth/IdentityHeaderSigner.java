@@ -0,0 +1,66 @@
+package com.everyschool.apigatewayservice.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * 검증된 사용자 헤더 서명
+ * 각 서비스는 X-User-Key를 그대로 믿지 않고 "회원 키.발급 시각"의 HMAC-SHA256 서명을 확인한 뒤 사용함
+ * 클라이언트가 보낸 같은 이름의 헤더는 항상 지우고 다시 씀
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    public static final String USER_KEY = "X-User-Key";
+    public static final String ISSUED_AT = "X-User-Key-Issued-At";
+    public static final String SIGNATURE = "X-User-Key-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public IdentityHeaderSigner(@Value("${gateway.identity.secret:${token.secret}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * 클라이언트가 보낸 사용자 헤더를 지우고 서명된 사용자 헤더 추가
+     *
+     * @param headers
+     * @param userKey
+     */
+    public void write(HttpHeaders headers, String userKey) {
+        String issuedAt = String.valueOf(System.currentTimeMillis());
+        headers.set(USER_KEY, userKey);
+        headers.set(ISSUED_AT, issuedAt);
+        headers.set(SIGNATURE, sign(userKey + "." + issuedAt));
+    }
+
+    /**
+     * 클라이언트가 보낸 사용자 헤더 삭제
+     *
+     * @param headers
+     */
+    public static void remove(HttpHeaders headers) {
+        headers.remove(USER_KEY);
+        headers.remove(ISSUED_AT);
+        headers.remove(SIGNATURE);
+    }
+
+    private String sign(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
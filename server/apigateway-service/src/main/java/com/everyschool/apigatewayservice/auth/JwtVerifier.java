@@ -0,0 +1,110 @@
+package com.everyschool.apigatewayservice.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * JWT 검증
+ * 파서는 시작할 때 한 번만 만들고, 검증된 토큰은 토큰 해시를 키로 만료 시각까지 캐시함
+ * 캐시가 max-size를 넘으면 만료된 토큰부터 지우고, 그래도 넘으면 모두 지움
+ */
+@Component
+@Slf4j
+public class JwtVerifier {
+
+    private static final long NO_EXPIRATION_TTL_MILLIS = 60_000L;
+
+    private final JwtParser parser;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JwtVerifier(@Value("${token.secret}") String secret,
+                       @Value("${gateway.token-cache.max-size:10000}") int maxSize) {
+        this(secret, maxSize, System::currentTimeMillis);
+    }
+
+    JwtVerifier(String secret, int maxSize, LongSupplier clock) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .setClock(() -> new Date(clock.getAsLong()))
+                .build();
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param jwt
+     * @return 토큰의 회원 키, 유효하지 않으면 null
+     */
+    public String verify(String jwt) {
+        long now = clock.getAsLong();
+        String tokenHash = hash(jwt);
+        VerifiedToken cached = verifiedTokens.get(tokenHash);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.userKey;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(jwt).getBody();
+        } catch (Exception e) {
+            return null;
+        }
+        String userKey = claims.getSubject();
+        if (userKey == null || userKey.isEmpty()) {
+            return null;
+        }
+
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration != null ? expiration.getTime() : now + NO_EXPIRATION_TTL_MILLIS;
+        if (verifiedTokens.size() >= maxSize) {
+            verifiedTokens.values().removeIf(token -> token.expiresAt <= now);
+            if (verifiedTokens.size() >= maxSize) {
+                log.debug("[토큰 캐시] 최대 크기 초과로 비움. 크기 = {}", verifiedTokens.size());
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(tokenHash, new VerifiedToken(userKey, expiresAt));
+        return userKey;
+    }
+
+    private static String hash(String jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+
+        private final String userKey;
+        private final long expiresAt;
+
+        VerifiedToken(String userKey, long expiresAt) {
+            this.userKey = userKey;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
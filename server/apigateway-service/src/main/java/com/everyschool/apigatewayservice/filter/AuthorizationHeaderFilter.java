@@ -1,10 +1,10 @@
 package com.everyschool.apigatewayservice.filter;
 
-import io.jsonwebtoken.Jwts;
+import com.everyschool.apigatewayservice.auth.IdentityHeaderSigner;
+import com.everyschool.apigatewayservice.auth.JwtVerifier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -13,18 +13,41 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
+/**
+ * JWT 검증 후 서명된 사용자 헤더 전달
+ * required가 false인 경로는 토큰이 없거나 유효하지 않아도 거절하지 않고 그대로 전달함 (서비스가 토큰을 직접 확인)
+ */
 @Component
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
 
-    private final Environment env;
+    private final JwtVerifier jwtVerifier;
+    private final IdentityHeaderSigner identityHeaderSigner;
 
-    public AuthorizationHeaderFilter(Environment env) {
+    public AuthorizationHeaderFilter(JwtVerifier jwtVerifier, IdentityHeaderSigner identityHeaderSigner) {
         super(Config.class);
-        this.env = env;
+        this.jwtVerifier = jwtVerifier;
+        this.identityHeaderSigner = identityHeaderSigner;
     }
 
     public static class Config {
+
+        private boolean required = true;
+
+        public boolean isRequired() {
+            return required;
+        }
+
+        public void setRequired(boolean required) {
+            this.required = required;
+        }
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("required");
     }
 
     @Override
@@ -33,17 +56,31 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             ServerHttpRequest request = exchange.getRequest();
 
             if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                if (!config.isRequired()) {
+                    return chain.filter(exchange);
+                }
                 return onError(exchange, "No authorization header", HttpStatus.UNAUTHORIZED);
             }
 
             String authorizationHeader = request.getHeaders().get(HttpHeaders.AUTHORIZATION).get(0);
-            String jwt = authorizationHeader.replace("Bearer", "");
+            String jwt = authorizationHeader.replace("Bearer", "").trim();
 
-            if (!isJwtValid(jwt)) {
+            String userKey = jwtVerifier.verify(jwt);
+            if (userKey == null) {
+                if (!config.isRequired()) {
+                    return chain.filter(exchange);
+                }
                 return onError(exchange, "JWT token is not valid", HttpStatus.UNAUTHORIZED);
             }
 
-            return chain.filter(exchange);
+            // 검증된 회원 키를 서명된 헤더로 전달해서 각 서비스가 토큰을 다시 검증하지 않도록 함
+            ServerHttpRequest verifiedRequest = request.mutate()
+                    .headers(headers -> {
+                        IdentityHeaderSigner.remove(headers);
+                        identityHeaderSigner.write(headers, userKey);
+                    })
+                    .build();
+            return chain.filter(exchange.mutate().request(verifiedRequest).build());
         });
     }
 
@@ -54,26 +91,4 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
         log.error(err);
         return response.setComplete();
     }
-
-    private boolean isJwtValid(String jwt) {
-        boolean returnValue = true;
-
-        String subject = null;
-
-        try {
-            subject = Jwts.parserBuilder().setSigningKey(env.getProperty("token.secret"))
-                .build().parseClaimsJws(jwt).getBody()
-                .getSubject();
-
-        } catch (Exception e) {
-            returnValue = false;
-        }
-
-        if (subject == null || subject.isEmpty()) {
-            returnValue = false;
-        }
-
-        return returnValue;
-    }
 }
-
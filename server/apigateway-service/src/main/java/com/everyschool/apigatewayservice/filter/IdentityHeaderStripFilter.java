@@ -0,0 +1,35 @@
+package com.everyschool.apigatewayservice.filter;
+
+import com.everyschool.apigatewayservice.auth.IdentityHeaderSigner;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트가 보낸 사용자 헤더 삭제
+ * 모든 경로에서 가장 먼저 실행되고, 사용자 헤더는 AuthorizationHeaderFilter가 토큰 검증 후에만 다시 씀
+ */
+@Component
+public class IdentityHeaderStripFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!exchange.getRequest().getHeaders().containsKey(IdentityHeaderSigner.USER_KEY)
+                && !exchange.getRequest().getHeaders().containsKey(IdentityHeaderSigner.SIGNATURE)) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(IdentityHeaderSigner::remove)
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.everyschool.apigatewayservice.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityHeaderSignerTest {
+
+    private static final String SECRET = "identity-secret";
+
+    private final IdentityHeaderSigner signer = new IdentityHeaderSigner(SECRET);
+
+    @DisplayName("회원 키와 발급 시각을 HMAC-SHA256으로 서명한 헤더를 쓴다.")
+    @Test
+    void write() throws Exception {
+        //given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(IdentityHeaderSigner.USER_KEY, "spoofed-key");
+
+        //when
+        signer.write(headers, "user-key");
+
+        //then
+        String issuedAt = headers.getFirst(IdentityHeaderSigner.ISSUED_AT);
+        assertThat(headers.get(IdentityHeaderSigner.USER_KEY)).containsExactly("user-key");
+        assertThat(issuedAt).isNotNull();
+        assertThat(headers.getFirst(IdentityHeaderSigner.SIGNATURE)).isEqualTo(sign("user-key." + issuedAt));
+    }
+
+    @DisplayName("사용자 헤더를 모두 지운다.")
+    @Test
+    void remove() {
+        //given
+        HttpHeaders headers = new HttpHeaders();
+        signer.write(headers, "user-key");
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer jwt");
+
+        //when
+        IdentityHeaderSigner.remove(headers);
+
+        //then
+        assertThat(headers).containsOnlyKeys(HttpHeaders.AUTHORIZATION);
+    }
+
+    private String sign(String value) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.everyschool.apigatewayservice.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtVerifierTest {
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private final JwtVerifier jwtVerifier = new JwtVerifier(Encoders.BASE64.encode(key.getEncoded()), 100, now::get);
+
+    @DisplayName("유효한 토큰은 회원 키를 반환하고, 같은 토큰은 캐시된 결과를 사용한다.")
+    @Test
+    void verify() {
+        //given
+        String token = createToken(key, "user-key", new Date(now.get() + 60_000L));
+
+        //when
+        String first = jwtVerifier.verify(token);
+        String second = jwtVerifier.verify(token);
+
+        //then
+        assertThat(first).isEqualTo("user-key");
+        assertThat(second).isEqualTo("user-key");
+    }
+
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 유효하지 않다.")
+    @Test
+    void verifyExpiredCachedToken() {
+        //given
+        String token = createToken(key, "user-key", new Date(now.get() + 60_000L));
+        jwtVerifier.verify(token);
+
+        //when
+        now.addAndGet(60_001L);
+        String userKey = jwtVerifier.verify(token);
+
+        //then
+        assertThat(userKey).isNull();
+    }
+
+    @DisplayName("서명이 다르거나 회원 키가 없는 토큰은 유효하지 않다.")
+    @Test
+    void verifyInvalidToken() {
+        //given
+        String forged = createToken(Keys.secretKeyFor(SignatureAlgorithm.HS256), "user-key", new Date(now.get() + 60_000L));
+        String withoutSubject = createToken(key, null, new Date(now.get() + 60_000L));
+
+        //when //then
+        assertThat(jwtVerifier.verify(forged)).isNull();
+        assertThat(jwtVerifier.verify(withoutSubject)).isNull();
+        assertThat(jwtVerifier.verify("not-a-jwt")).isNull();
+    }
+
+    private String createToken(SecretKey signingKey, String userKey, Date expiration) {
+        return Jwts.builder()
+                .setSubject(userKey)
+                .setIssuedAt(new Date(now.get()))
+                .setExpiration(expiration)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,89 @@
+package com.everyschool.apigatewayservice.filter;
+
+import com.everyschool.apigatewayservice.auth.IdentityHeaderSigner;
+import com.everyschool.apigatewayservice.auth.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationHeaderFilterTest {
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final AuthorizationHeaderFilter filterFactory = new AuthorizationHeaderFilter(
+            new JwtVerifier(Encoders.BASE64.encode(key.getEncoded()), 100), new IdentityHeaderSigner("identity-secret"));
+
+    @DisplayName("유효한 토큰이면 서명된 사용자 헤더를 붙여 전달한다.")
+    @Test
+    void forwardSignedIdentity() {
+        //given
+        GatewayFilter filter = filterFactory.apply(new AuthorizationHeaderFilter.Config());
+        MockServerWebExchange exchange = createExchange("Bearer " + createToken());
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        //when
+        filter.filter(exchange, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+
+        //then
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers.getFirst(IdentityHeaderSigner.USER_KEY)).isEqualTo("user-key");
+        assertThat(headers).containsKeys(IdentityHeaderSigner.ISSUED_AT, IdentityHeaderSigner.SIGNATURE);
+    }
+
+    @DisplayName("토큰이 없으면 거절하고, required가 false인 경로는 그대로 전달한다.")
+    @Test
+    void withoutToken() {
+        //given
+        AuthorizationHeaderFilter.Config optional = new AuthorizationHeaderFilter.Config();
+        optional.setRequired(false);
+        MockServerWebExchange rejected = createExchange(null);
+        MockServerWebExchange passed = createExchange(null);
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        //when
+        filterFactory.apply(new AuthorizationHeaderFilter.Config())
+                .filter(rejected, next -> Mono.error(new IllegalStateException("전달되면 안 됨"))).block();
+        filterFactory.apply(optional).filter(passed, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+
+        //then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(forwarded.get().getRequest().getHeaders()).doesNotContainKey(IdentityHeaderSigner.USER_KEY);
+    }
+
+    private MockServerWebExchange createExchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/board-service/v1/boards");
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private String createToken() {
+        return Jwts.builder()
+                .setSubject("user-key")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
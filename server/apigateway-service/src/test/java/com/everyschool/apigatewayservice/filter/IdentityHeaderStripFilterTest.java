@@ -0,0 +1,60 @@
+package com.everyschool.apigatewayservice.filter;
+
+import com.everyschool.apigatewayservice.auth.IdentityHeaderSigner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityHeaderStripFilterTest {
+
+    private final IdentityHeaderStripFilter filter = new IdentityHeaderStripFilter();
+
+    @DisplayName("클라이언트가 보낸 사용자 헤더는 다음 필터로 전달하지 않는다.")
+    @Test
+    void stripSpoofedHeaders() {
+        //given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/school-service/v1/schools")
+                .header(IdentityHeaderSigner.USER_KEY, "other-user-key")
+                .header(IdentityHeaderSigner.ISSUED_AT, "1700000000000")
+                .header(IdentityHeaderSigner.SIGNATURE, "forged")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer jwt"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        //when
+        filter.filter(exchange, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+
+        //then
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers).doesNotContainKeys(IdentityHeaderSigner.USER_KEY, IdentityHeaderSigner.ISSUED_AT,
+                IdentityHeaderSigner.SIGNATURE);
+        assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer jwt");
+    }
+
+    @DisplayName("사용자 헤더가 없으면 요청을 그대로 전달한다.")
+    @Test
+    void passThrough() {
+        //given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/school-service/v1/schools"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        //when
+        filter.filter(exchange, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+
+        //then
+        assertThat(forwarded.get()).isSameAs(exchange);
+    }
+}
@@ -1,6 +1,8 @@
 package com.everyschool.chatservice.api;
 
+import com.everyschool.chatservice.api.service.chatroom.executor.ChatRoomCallTimeoutException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -46,6 +48,20 @@ public class ApiControllerAdvice {
         );
     }
 
+    /**
+     * ChatRoomCallTimeoutException 공통 처리 메서드
+     * 작업이 시작되지 않았으면 503으로 다시 보내도 된다고 알리고, 이미 시작했으면 202로 처리되었을 수 있다고 알림
+     *
+     * @param e ChatRoomCallTimeoutException
+     * @return 503 또는 202 오류 메세지
+     */
+    @ExceptionHandler(ChatRoomCallTimeoutException.class)
+    public ResponseEntity<ApiResponse<Object>> chatRoomCallTimeoutException(ChatRoomCallTimeoutException e) {
+        HttpStatus status = e.isStarted() ? HttpStatus.ACCEPTED : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .body(ApiResponse.of(status, e.getMessage(), e.getMessage()));
+    }
+
     /**
      * NoSuchElementException 공통 처리 메서드
      *
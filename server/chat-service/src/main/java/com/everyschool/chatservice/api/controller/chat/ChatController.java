@@ -1,15 +1,16 @@
 package com.everyschool.chatservice.api.controller.chat;
 
 import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
-import com.everyschool.chatservice.api.controller.chat.request.UnsubscribeRequest;
+import com.everyschool.chatservice.api.service.chat.broker.ChatRoomMessagePublisher;
 import com.everyschool.chatservice.api.service.chat.dto.ChatService;
 import com.everyschool.chatservice.api.service.chatroom.ChatRoomService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.everyschool.chatservice.api.service.chatroom.executor.ChatRoomExecutor;
+import com.everyschool.chatservice.config.auth.StompUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -17,9 +18,10 @@ import org.springframework.stereotype.Controller;
 @Slf4j
 public class ChatController {
 
-    private final SimpMessagingTemplate template;
+    private final ChatRoomMessagePublisher chatRoomMessagePublisher;
     private final ChatService chatService;
     private final ChatRoomService chatRoomService;
+    private final ChatRoomExecutor chatRoomExecutor;
 
     /**
      * 채팅 전송
@@ -28,15 +30,20 @@ public class ChatController {
      * @return
      */
     @MessageMapping("/chat.send")
-    public void sendMessage(ChatMessage message) throws FirebaseMessagingException {
+    public void sendMessage(ChatMessage message, SimpMessageHeaderAccessor headerAccessor) {
 
+        // 보낸 사람은 메세지의 회원 키가 아니라 StompHandler가 확인한 세션 사용자로 정함
+        message.setSenderUserKey(requireUser(headerAccessor).getUserKey());
         Long roomId = message.getChatRoomId();
         log.debug("[채팅 전송(소켓)] 채팅방 Id = {}", roomId);
 
-        chatService.sendMessageProcessing(message.toDto());
-        log.debug("[채팅 전송(소켓)] 알림 보냈음.");
-        template.convertAndSend("/sub/" + roomId, message);
-        log.debug("[채팅 전송(소켓)] 소켓 전송 완료. message = {}", message.getMessage());
+        // 같은 채팅방 메세지는 받은 순서대로 전송
+        chatRoomExecutor.execute(roomId, () -> {
+            chatService.sendMessageProcessing(message.toDto());
+            log.debug("[채팅 전송(소켓)] 알림 요청함.");
+            chatRoomMessagePublisher.publish(roomId, message);
+            log.debug("[채팅 전송(소켓)] 소켓 전송 완료. message = {}", message.getMessage());
+        });
     }
 
     /**
@@ -46,11 +53,19 @@ public class ChatController {
      */
     @MessageMapping("/chat.unsub.{chatRoomId}")
     public void unsubscribe(@DestinationVariable Long chatRoomId,
-                            UnsubscribeRequest request) {
+                            SimpMessageHeaderAccessor headerAccessor) {
 
         log.debug("[구독 취소] 요청 들어옴. 채팅방 Id = {}", chatRoomId);
 
-        chatRoomService.disconnect(chatRoomId, request.getUserKey());
+        chatRoomService.disconnect(chatRoomId, requireUser(headerAccessor).getUserId());
         log.debug("[구독 취소] 요청 들어옴. 채팅방 Id = {}", chatRoomId);
     }
+
+    private StompUser requireUser(SimpMessageHeaderAccessor headerAccessor) {
+        StompUser user = StompUser.from(headerAccessor.getSessionAttributes());
+        if (user == null || user.getUserKey() == null) {
+            throw new IllegalArgumentException("인증되지 않은 사용자입니다.");
+        }
+        return user;
+    }
 }
@@ -1,17 +1,29 @@
 package com.everyschool.chatservice.api.controller.chat;
 
 import com.everyschool.chatservice.api.ApiResponse;
+import com.everyschool.chatservice.api.controller.chat.request.ChatSyncRequest;
 import com.everyschool.chatservice.api.controller.chat.response.ChatResponse;
+import com.everyschool.chatservice.api.controller.chat.response.ChatSearchResponse;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChat;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChatResponse;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChatReviewResponse;
+import com.everyschool.chatservice.api.service.chat.ChatExportFormat;
+import com.everyschool.chatservice.api.service.chat.ChatExportService;
 import com.everyschool.chatservice.api.service.chat.ChatQueryService;
+import com.everyschool.chatservice.api.service.chat.ChatSyncService;
+import com.everyschool.chatservice.api.service.chat.search.ChatSearchService;
 import com.mongodb.lang.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -23,6 +35,9 @@ public class ChatQueryController {
 
 
     private final ChatQueryService chatQueryService;
+    private final ChatSyncService chatSyncService;
+    private final ChatExportService chatExportService;
+    private final ChatSearchService chatSearchService;
 
     /**
      * 채팅 내용 조회
@@ -39,6 +54,44 @@ public class ChatQueryController {
         return ApiResponse.ok(responses);
     }
 
+    /**
+     * 채팅 내용 검색
+     * 속한 채팅방의 채팅 중 검색어가 포함된 채팅을 최신순으로 조회
+     *
+     * @param query 검색어
+     * @param chatRoomId 없으면 속한 모든 채팅방에서 검색
+     * @param idx 이전 페이지의 마지막 채팅 Id
+     * @param token
+     * @return
+     */
+    @GetMapping("/chat-rooms/search")
+    public ApiResponse<List<ChatSearchResponse>> searchChatContent(@RequestParam String query,
+                                                                   @RequestParam @Nullable Long chatRoomId,
+                                                                   @RequestParam @Nullable Long idx,
+                                                                   @RequestHeader("Authorization") String token) {
+        log.debug("[Controller] 채팅 검색 요청됨. 채팅방 ID = {}", chatRoomId);
+        List<ChatSearchResponse> responses = chatSearchService.search(token, query, chatRoomId, idx);
+        return ApiResponse.ok(responses);
+    }
+
+    /**
+     * 재접속 시 채팅 동기화
+     * 채팅방별 마지막으로 받은 채팅 이후 채팅과 채팅방 상태를 NDJSON으로 전송
+     *
+     * @param request
+     * @param token
+     * @return
+     */
+    @PostMapping(value = "/chat-rooms/sync", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> syncChat(@Valid @RequestBody ChatSyncRequest request,
+                                                          @RequestHeader("Authorization") String token) {
+        log.debug("[Controller] 채팅 동기화 요청됨. 채팅방 수 = {}", request.getChatRooms().size());
+        StreamingResponseBody body = chatSyncService.sync(token, request.toLastChatIds());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * 채팅 리뷰
      *
@@ -66,4 +119,32 @@ public class ChatQueryController {
         WarningChatResponse responses = chatQueryService.searchReviewChat(chatRoomId, reviewId, date, token);
         return ApiResponse.ok(responses);
     }
+
+    /**
+     * 문제 대화 내보내기
+     * 채팅방의 기간 내 채팅과 경고 사유를 CSV 또는 NDJSON 파일로 전송
+     *
+     * @param token
+     * @param chatRoomId
+     * @param reviewId
+     * @param from
+     * @param to
+     * @param format
+     * @return
+     */
+    @GetMapping("/chat-review/{chatRoomId}/{reviewId}/export")
+    public ResponseEntity<StreamingResponseBody> exportReviewChat(@RequestHeader("Authorization") String token,
+                                                                  @PathVariable Long chatRoomId,
+                                                                  @PathVariable Long reviewId,
+                                                                  @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                                                                  @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+                                                                  @RequestParam(defaultValue = "CSV") ChatExportFormat format) {
+        log.debug("[Controller] 문제 대화 내보내기 요청됨. 채팅방 ID = {}", chatRoomId);
+        StreamingResponseBody body = chatExportService.export(chatRoomId, reviewId, from, to, format, token);
+        String filename = String.format("chat-review-%d-%s-%s.%s", chatRoomId, from, to, format.getExtension());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
 }
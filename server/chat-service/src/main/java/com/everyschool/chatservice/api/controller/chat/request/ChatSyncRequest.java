@@ -0,0 +1,54 @@
+package com.everyschool.chatservice.api.controller.chat.request;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class ChatSyncRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    @Valid
+    private List<ChatRoomCursor> chatRooms;
+
+    @Builder
+    private ChatSyncRequest(List<ChatRoomCursor> chatRooms) {
+        this.chatRooms = chatRooms;
+    }
+
+    /**
+     * @return 채팅방 Id별 마지막으로 받은 채팅 Id
+     */
+    public Map<Long, Long> toLastChatIds() {
+        Map<Long, Long> lastChatIds = new LinkedHashMap<>();
+        for (ChatRoomCursor chatRoom : chatRooms) {
+            lastChatIds.put(chatRoom.getChatRoomId(), chatRoom.getLastChatId());
+        }
+        return lastChatIds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class ChatRoomCursor {
+
+        @NotNull
+        private Long chatRoomId;
+        private Long lastChatId;
+
+        @Builder
+        private ChatRoomCursor(Long chatRoomId, Long lastChatId) {
+            this.chatRoomId = chatRoomId;
+            this.lastChatId = lastChatId;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.everyschool.chatservice.api.controller.chat.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 내보내기 응답의 채팅 한 줄
+ */
+@Data
+public class ChatExportChatResponse {
+
+    private final String type = "chat";
+    private Long chatId;
+    private LocalDateTime sendTime;
+    private Long userId;
+    private boolean teacherSend;
+    private String chatStatus;
+    private String content;
+    private String reason;
+
+    @Builder
+    private ChatExportChatResponse(Long chatId, LocalDateTime sendTime, Long userId, boolean teacherSend, String chatStatus, String content, String reason) {
+        this.chatId = chatId;
+        this.sendTime = sendTime;
+        this.userId = userId;
+        this.teacherSend = teacherSend;
+        this.chatStatus = chatStatus;
+        this.content = content;
+        this.reason = reason;
+    }
+}
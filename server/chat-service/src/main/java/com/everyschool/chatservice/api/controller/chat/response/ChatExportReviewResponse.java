@@ -0,0 +1,29 @@
+package com.everyschool.chatservice.api.controller.chat.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 대화 내보내기 NDJSON 응답의 첫 줄
+ */
+@Data
+public class ChatExportReviewResponse {
+
+    private final String type = "review";
+    private Long chatRoomId;
+    private Long reviewId;
+    private String title;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Builder
+    private ChatExportReviewResponse(Long chatRoomId, Long reviewId, String title, LocalDate from, LocalDate to) {
+        this.chatRoomId = chatRoomId;
+        this.reviewId = reviewId;
+        this.title = title;
+        this.from = from;
+        this.to = to;
+    }
+}
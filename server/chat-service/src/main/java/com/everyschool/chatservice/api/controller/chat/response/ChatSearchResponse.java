@@ -0,0 +1,25 @@
+package com.everyschool.chatservice.api.controller.chat.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ChatSearchResponse {
+
+    private Long chatRoomId;
+    private Long chatId;
+    private boolean isMine;
+    private String content;
+    private LocalDateTime sendTime;
+
+    @Builder
+    private ChatSearchResponse(Long chatRoomId, Long chatId, boolean isMine, String content, LocalDateTime sendTime) {
+        this.chatRoomId = chatRoomId;
+        this.chatId = chatId;
+        this.isMine = isMine;
+        this.content = content;
+        this.sendTime = sendTime;
+    }
+}
@@ -0,0 +1,29 @@
+package com.everyschool.chatservice.api.controller.chat.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 응답의 채팅 한 줄
+ */
+@Data
+public class ChatSyncChatResponse {
+
+    private final String type = "chat";
+    private Long chatRoomId;
+    private Long chatId;
+    private boolean isMine;
+    private String content;
+    private LocalDateTime sendTime;
+
+    @Builder
+    private ChatSyncChatResponse(Long chatRoomId, Long chatId, boolean isMine, String content, LocalDateTime sendTime) {
+        this.chatRoomId = chatRoomId;
+        this.chatId = chatId;
+        this.isMine = isMine;
+        this.content = content;
+        this.sendTime = sendTime;
+    }
+}
@@ -0,0 +1,30 @@
+package com.everyschool.chatservice.api.controller.chat.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 응답의 채팅방 한 줄
+ * 채팅방의 새 채팅 줄 다음에 전송됨
+ */
+@Data
+public class ChatSyncRoomResponse {
+
+    private final String type = "room";
+    private Long chatRoomId;
+    private String lastMessage;
+    private LocalDateTime updateTime;
+    private int unreadMessageNum;
+    private boolean hasMore;
+
+    @Builder
+    private ChatSyncRoomResponse(Long chatRoomId, String lastMessage, LocalDateTime updateTime, int unreadMessageNum, boolean hasMore) {
+        this.chatRoomId = chatRoomId;
+        this.lastMessage = lastMessage;
+        this.updateTime = updateTime;
+        this.unreadMessageNum = unreadMessageNum;
+        this.hasMore = hasMore;
+    }
+}
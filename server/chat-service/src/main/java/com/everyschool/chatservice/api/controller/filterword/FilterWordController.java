@@ -4,6 +4,7 @@ import com.everyschool.chatservice.api.ApiResponse;
 import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
 import com.everyschool.chatservice.api.controller.filterword.request.CreateFilterWordRequest;
 import com.everyschool.chatservice.api.controller.filterword.response.ChatFilterResponse;
+import com.everyschool.chatservice.api.service.chatroom.executor.ChatRoomExecutor;
 import com.everyschool.chatservice.api.service.filterword.FilterWordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import javax.validation.Valid;
 public class FilterWordController {
 
     private final FilterWordService filterWordService;
+    private final ChatRoomExecutor chatRoomExecutor;
 
     /**
      * 필터링 단어 등록
@@ -46,7 +48,8 @@ public class FilterWordController {
     public ApiResponse<ChatFilterResponse> checkMessageFilter(@RequestBody ChatMessage message) {
 
         log.debug("[Controller] 채팅 필터링 적용. senderUserKey = {}", message.getSenderUserKey());
-        ChatFilterResponse response = filterWordService.sendMessage(message);
+        // 채팅 Id 발급, 안 읽은 수 증가가 채팅방 안에서 순서대로 실행되도록 채팅방별로 하나씩 처리
+        ChatFilterResponse response = chatRoomExecutor.call(message.getChatRoomId(), () -> filterWordService.sendMessage(message));
         return ApiResponse.ok(response);
     }
 }
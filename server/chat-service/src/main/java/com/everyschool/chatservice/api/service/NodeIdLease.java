@@ -0,0 +1,116 @@
+package com.everyschool.chatservice.api.service;
+
+import com.everyschool.chatservice.domain.mongo.SequenceNodeLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * 서버 번호 점유
+ * 0 ~ MAX_NODE_ID 중 비어 있거나 만료된 번호 하나를 ttl 동안 점유하고, 살아있는 동안 계속 연장함
+ * 점유 만료 시각이 지나면 번호를 쓰지 않고 다시 점유해야 하므로 같은 번호를 두 서버가 동시에 쓰지 않음
+ * 서버 간 시계 차이를 고려해 이 서버에서는 ttl의 2/3 까지만 번호를 사용함
+ */
+@Slf4j
+class NodeIdLease {
+
+    private final MongoOperations mongoOperations;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile long nodeId = -1;
+    private volatile long expiresAt;
+
+    NodeIdLease(MongoOperations mongoOperations, long ttlMillis, LongSupplier clock) {
+        this.mongoOperations = mongoOperations;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 비어 있는 서버 번호 점유
+     *
+     * @return 점유한 서버 번호
+     * @throws IllegalStateException 모든 서버 번호를 다른 서버가 쓰고 있는 경우
+     */
+    synchronized long claim() {
+        for (long slot = 0; slot <= TimeOrderedIdGenerator.MAX_NODE_ID; slot++) {
+            if (tryClaim(slot, Criteria.where("expiresAt").lt(new Date(clock.getAsLong())))) {
+                log.info("[시퀀스] 서버 번호 점유. 서버 번호 = {}", slot);
+                return slot;
+            }
+        }
+        throw new IllegalStateException("사용할 수 있는 서버 번호가 없습니다. 동시에 실행 중인 서버는 "
+                + (TimeOrderedIdGenerator.MAX_NODE_ID + 1) + "대를 넘을 수 없습니다.");
+    }
+
+    /**
+     * 점유 연장
+     *
+     * @return 연장했으면 true, 이미 다른 서버가 점유했으면 false
+     */
+    synchronized boolean renew() {
+        if (nodeId < 0) {
+            return false;
+        }
+        if (tryClaim(nodeId, Criteria.where("owner").is(owner))) {
+            return true;
+        }
+        log.warn("[시퀀스] 서버 번호 점유를 잃음. 서버 번호 = {}", nodeId);
+        nodeId = -1;
+        return false;
+    }
+
+    /**
+     * 점유 해제
+     */
+    synchronized void release() {
+        if (nodeId < 0) {
+            return;
+        }
+        mongoOperations.remove(query(where("_id").is(nodeId).and("owner").is(owner)), SequenceNodeLease.class);
+        nodeId = -1;
+    }
+
+    /**
+     * @return 만료 전이면 점유한 서버 번호, 아니면 -1
+     */
+    long currentNodeId() {
+        long current = nodeId;
+        return current >= 0 && clock.getAsLong() < expiresAt ? current : -1;
+    }
+
+    /**
+     * 만료되었거나 내가 점유한 번호만 갱신함
+     * 문서가 없으면 새로 만들고, 다른 서버가 점유 중이면 _id 중복으로 실패함
+     */
+    private boolean tryClaim(long slot, Criteria claimable) {
+        long now = clock.getAsLong();
+        try {
+            SequenceNodeLease lease = mongoOperations.findAndModify(
+                    query(where("_id").is(slot).andOperator(claimable)),
+                    new Update().set("owner", owner).set("expiresAt", new Date(now + ttlMillis)),
+                    options().returnNew(true).upsert(true),
+                    SequenceNodeLease.class);
+            if (lease == null || !owner.equals(lease.getOwner())) {
+                return false;
+            }
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        nodeId = slot;
+        expiresAt = now + ttlMillis * 2 / 3;
+        return true;
+    }
+}
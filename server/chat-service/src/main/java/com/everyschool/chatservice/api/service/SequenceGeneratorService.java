@@ -1,31 +1,180 @@
 package com.everyschool.chatservice.api.service;
 
+import com.everyschool.chatservice.domain.chat.Chat;
 import com.everyschool.chatservice.domain.mongo.DatabaseSequence;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
+/**
+ * 시퀀스 발급
+ * sequence.time-ordered에 있는 시퀀스(기본 chat_sequence)는 DB 조회 없이 시간순 번호를 발급함
+ * 채팅 목록, 최근 채팅, 동기화 커서가 모두 번호 순서에 의존하므로 서버가 여러 대여도 발급 순서가 유지되어야 함
+ * 서버 번호는 sequence.node-id가 없으면 DB에서 점유하고 주기적으로 연장함, 비어 있는 번호가 없으면 서버가 시작되지 않음
+ * 나머지 시퀀스는 DB의 하나뿐인 카운터에서 sequence.block-size.{이름} 만큼 예약해두고 메모리에서 나눠줌
+ * 예약한 구간 단위로 번호를 쓰므로 서버 간 발급 순서는 섞임
+ */
 @Service
 public class SequenceGeneratorService {
 
+    private static final long DEFAULT_BLOCK_SIZE = 100;
+
     private MongoOperations mongoOperations;
+    private Environment env;
+
+    private final Map<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+    private final Set<String> timeOrderedSequences;
+    private final LongSupplier clock;
+    private final NodeIdLease nodeIdLease;
+    private volatile TimeOrderedIdGenerator timeOrderedIdGenerator;
 
     @Autowired
-    public SequenceGeneratorService(MongoOperations mongoOperations) {
+    public SequenceGeneratorService(MongoOperations mongoOperations, Environment env) {
+        this(mongoOperations, env, System::currentTimeMillis);
+    }
+
+    SequenceGeneratorService(MongoOperations mongoOperations, Environment env, LongSupplier clock) {
         this.mongoOperations = mongoOperations;
+        this.env = env;
+        this.clock = clock;
+        this.timeOrderedSequences = Set.of(env.getProperty("sequence.time-ordered", String[].class, new String[]{Chat.SEQUENCE_NAME}));
+        this.nodeIdLease = env.containsProperty("sequence.node-id")
+                ? null
+                : new NodeIdLease(mongoOperations, env.getProperty("sequence.node-lease-ttl-ms", Long.class, 30_000L), clock);
+    }
+
+    /**
+     * 서버 시작 시 서버 번호 점유
+     */
+    @PostConstruct
+    public void init() {
+        getTimeOrderedIdGenerator();
+    }
+
+    /**
+     * 서버 번호 점유 연장, 점유를 잃었으면 다음 발급 때 다시 점유함
+     */
+    @Scheduled(fixedDelayString = "${sequence.node-lease-renew-ms:10000}")
+    public void renewNodeId() {
+        if (nodeIdLease != null && timeOrderedIdGenerator != null && !nodeIdLease.renew()) {
+            timeOrderedIdGenerator = null;
+        }
+    }
+
+    @PreDestroy
+    public void releaseNodeId() {
+        if (nodeIdLease != null) {
+            nodeIdLease.release();
+        }
     }
 
     public long generateSequence(String seqName) {
+        if (timeOrderedSequences.contains(seqName)) {
+            return getTimeOrderedIdGenerator().next();
+        }
+
+        SequenceBlock block = blocks.computeIfAbsent(seqName, name -> new SequenceBlock());
+        while (true) {
+            long next = block.range.next();
+            if (next > 0) {
+                return next;
+            }
+            synchronized (block) {
+                if (block.range.isExhausted()) {
+                    long blockSize = getBlockSize(seqName);
+                    long last = reserve(seqName, blockSize);
+                    block.range = new SequenceRange(last - blockSize + 1, last);
+                }
+            }
+        }
+    }
+
+    /**
+     * 점유한 서버 번호가 만료되었으면 연장하거나 새로 점유한 뒤 발급기를 다시 만듦
+     */
+    private TimeOrderedIdGenerator getTimeOrderedIdGenerator() {
+        TimeOrderedIdGenerator generator = timeOrderedIdGenerator;
+        if (generator != null && (nodeIdLease == null || nodeIdLease.currentNodeId() >= 0)) {
+            return generator;
+        }
+        synchronized (this) {
+            generator = timeOrderedIdGenerator;
+            if (nodeIdLease == null) {
+                if (generator == null) {
+                    generator = new TimeOrderedIdGenerator(env.getProperty("sequence.node-id", Long.class), clock);
+                    timeOrderedIdGenerator = generator;
+                }
+                return generator;
+            }
+            if (generator != null && (nodeIdLease.currentNodeId() >= 0 || nodeIdLease.renew())) {
+                return generator;
+            }
+            generator = new TimeOrderedIdGenerator(nodeIdLease.claim(), clock);
+            timeOrderedIdGenerator = generator;
+            return generator;
+        }
+    }
+
+    private long reserve(String seqName, long blockSize) {
         DatabaseSequence counter = mongoOperations.findAndModify(query(where("_id").is(seqName)),
-                new Update().inc("seq", 1), options().returnNew(true).upsert(true),
+                new Update().inc("seq", blockSize), options().returnNew(true).upsert(true),
                 DatabaseSequence.class);
-        return !Objects.isNull(counter) ? counter.getSeq() : 1;
+        return !Objects.isNull(counter) ? counter.getSeq() : blockSize;
+    }
+
+    private long getBlockSize(String seqName) {
+        Long defaultBlockSize = env.getProperty("sequence.block-size.default", Long.class, DEFAULT_BLOCK_SIZE);
+        Long blockSize = env.getProperty("sequence.block-size." + seqName, Long.class, defaultBlockSize);
+        return Math.max(blockSize, 1);
+    }
+
+    private static class SequenceBlock {
+
+        private volatile SequenceRange range = SequenceRange.EMPTY;
+    }
+
+    /**
+     * 예약된 번호 구간
+     */
+    private static class SequenceRange {
+
+        private static final SequenceRange EMPTY = new SequenceRange(1, 0);
+
+        private final AtomicLong current;
+        private final long last;
+
+        SequenceRange(long first, long last) {
+            this.current = new AtomicLong(first);
+            this.last = last;
+        }
+
+        /**
+         * @return 구간 안의 다음 번호, 구간을 다 쓴 경우 -1
+         */
+        long next() {
+            long value = current.getAndIncrement();
+            return value <= last ? value : -1;
+        }
+
+        boolean isExhausted() {
+            return current.get() > last;
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.everyschool.chatservice.api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 번호 발급
+ * 번호 = (기준 시각 이후 밀리초 << 6 | 같은 밀리초 안의 순번) << 5 | 서버 번호
+ * 서버가 달라도 밀리초 단위로는 발급 순서가 유지되고, 한 서버 안에서는 항상 증가함
+ * 53비트 안에 들어가므로 JSON 숫자로 보내도 정밀도가 깨지지 않음
+ */
+class TimeOrderedIdGenerator {
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 6;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    /**
+     * 2023-01-01T00:00:00Z
+     */
+    private static final long EPOCH_MILLIS = 1672531200000L;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("서버 번호는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 같은 밀리초에 순번을 다 쓰거나 시계가 뒤로 가면 다음 밀리초 값을 미리 사용함
+     *
+     * @return 다음 번호
+     */
+    long next() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long current = last.updateAndGet(previous -> Math.max(now, previous + 1));
+        return (current << NODE_BITS) | nodeId;
+    }
+}
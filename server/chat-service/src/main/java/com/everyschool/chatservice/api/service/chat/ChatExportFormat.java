@@ -0,0 +1,21 @@
+package com.everyschool.chatservice.api.service.chat;
+
+import lombok.Getter;
+
+/**
+ * 대화 내보내기 형식
+ */
+@Getter
+public enum ChatExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ChatExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,208 @@
+package com.everyschool.chatservice.api.service.chat;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.response.ChatExportChatResponse;
+import com.everyschool.chatservice.api.controller.chat.response.ChatExportReviewResponse;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatReview;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chat.repository.ChatReviewRepository;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.everyschool.chatservice.domain.filterword.Reason;
+import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.everyschool.chatservice.domain.chat.ChatStatus.PLANE;
+
+/**
+ * 문제 대화 내보내기
+ * 채팅방의 기간 내 채팅을 Mongo 커서에서 읽는 대로 CSV 또는 NDJSON으로 바로 씀
+ * 경고 사유는 batch-size 개 채팅마다 한 번에 조회하므로 대화 길이와 관계없이 메모리 사용량이 일정함
+ * 채팅방에 참여한 회원만, 해당 채팅방의 문제 대화로, 최대 max-days 일까지 내보낼 수 있음
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ChatExportService {
+
+    private static final String CSV_HEADER = "title,chatId,sendTime,userId,teacherSend,chatStatus,content,reason\n";
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final UserServiceClient userServiceClient;
+    private final ChatReviewRepository chatReviewRepository;
+    private final ChatQueryRepository chatQueryRepository;
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private final ReasonRepository reasonRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxDays;
+
+    public ChatExportService(UserServiceClient userServiceClient,
+                             ChatReviewRepository chatReviewRepository,
+                             ChatQueryRepository chatQueryRepository,
+                             ChatRoomUserQueryRepository chatRoomUserQueryRepository,
+                             ReasonRepository reasonRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${chat.export.batch-size:200}") int batchSize,
+                             @Value("${chat.export.max-days:31}") int maxDays) {
+        this.userServiceClient = userServiceClient;
+        this.chatReviewRepository = chatReviewRepository;
+        this.chatQueryRepository = chatQueryRepository;
+        this.chatRoomUserQueryRepository = chatRoomUserQueryRepository;
+        this.reasonRepository = reasonRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 대화 내보내기
+     * from부터 to까지(to 포함) 채팅방의 모든 채팅을 작성 순서대로 내보냄
+     * CSV는 행마다 문제 대화 제목을, NDJSON은 첫 줄에 문제 대화 정보를 씀
+     *
+     * @param chatRoomId
+     * @param reviewId
+     * @param from
+     * @param to
+     * @param format
+     * @param token
+     * @return 내보내기 응답
+     */
+    public StreamingResponseBody export(Long chatRoomId, Long reviewId, LocalDate from, LocalDate to, ChatExportFormat format, String token) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + maxDays + "일입니다.");
+        }
+        UserInfo loginUser = userServiceClient.searchUserInfo(token);
+        if (chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(chatRoomId, loginUser.getUserId()).isEmpty()) {
+            throw new IllegalArgumentException("참여하지 않은 채팅방입니다.");
+        }
+        ChatReview chatReview = chatReviewRepository.findById(reviewId).orElseThrow(()
+                -> new NoSuchElementException("잘못된 요청입니다."));
+        if (chatReview.getChatRoom() == null || !Objects.equals(chatReview.getChatRoom().getId(), chatRoomId)) {
+            throw new NoSuchElementException("잘못된 요청입니다.");
+        }
+        String title = chatReview.getTitle();
+        log.debug("[대화 내보내기] 채팅방 Id = {}, 기간 = {} ~ {}, 형식 = {}", chatRoomId, from, to, format);
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == ChatExportFormat.CSV) {
+                out.write(UTF8_BOM);
+                writer.write(CSV_HEADER);
+            } else {
+                writeLine(writer, ChatExportReviewResponse.builder()
+                        .chatRoomId(chatRoomId)
+                        .reviewId(reviewId)
+                        .title(title)
+                        .from(from)
+                        .to(to)
+                        .build());
+            }
+
+            try (Stream<Chat> chats = chatQueryRepository.streamChatsByCreatedDateBetween(chatRoomId, from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+                List<Chat> batch = new ArrayList<>(batchSize);
+                Iterator<Chat> iterator = chats.iterator();
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() >= batchSize || !iterator.hasNext()) {
+                        writeBatch(writer, batch, title, format, loginUser.getUserId());
+                        batch.clear();
+                    }
+                }
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeBatch(Writer writer, List<Chat> batch, String title, ChatExportFormat format, Long loginUserId) throws IOException {
+        Map<Long, String> reasons = searchReasons(batch);
+        for (Chat chat : batch) {
+            ChatExportChatResponse response = ChatExportChatResponse.builder()
+                    .chatId(chat.getId())
+                    .sendTime(chat.getCreatedDate())
+                    .userId(chat.getUserId())
+                    .teacherSend(Objects.equals(chat.getUserId(), loginUserId))
+                    .chatStatus(ChatStatus.getText(chat.getStatus()))
+                    .content(chat.getContent())
+                    .reason(reasons.getOrDefault(chat.getId(), ""))
+                    .build();
+            if (format == ChatExportFormat.CSV) {
+                writeCsvRow(writer, title, response);
+            } else {
+                writeLine(writer, response);
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * 평범하지 않은 채팅의 사유를 한 번에 조회
+     */
+    private Map<Long, String> searchReasons(List<Chat> chats) {
+        List<Long> flaggedChatIds = chats.stream()
+                .filter(chat -> chat.getStatus() != PLANE.getCode())
+                .map(Chat::getId)
+                .collect(Collectors.toList());
+        if (flaggedChatIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return reasonRepository.findByChatIdIn(flaggedChatIds).stream()
+                .collect(Collectors.toMap(Reason::getChatId, Reason::getFilterReason, (first, second) -> first + ", " + second));
+    }
+
+    private void writeLine(Writer writer, Object line) throws IOException {
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    private void writeCsvRow(Writer writer, String title, ChatExportChatResponse response) throws IOException {
+        writer.write(csv(title));
+        writer.write(',');
+        writer.write(String.valueOf(response.getChatId()));
+        writer.write(',');
+        writer.write(String.valueOf(response.getSendTime()));
+        writer.write(',');
+        writer.write(String.valueOf(response.getUserId()));
+        writer.write(',');
+        writer.write(String.valueOf(response.isTeacherSend()));
+        writer.write(',');
+        writer.write(csv(response.getChatStatus()));
+        writer.write(',');
+        writer.write(csv(response.getContent()));
+        writer.write(',');
+        writer.write(csv(response.getReason()));
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180 형식으로 값 감싸기
+     * 엑셀에서 수식으로 실행되지 않도록 =, +, -, @로 시작하는 값 앞에 '를 붙임
+     */
+    static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -2,14 +2,15 @@ package com.everyschool.chatservice.api.service.chat;
 
 import com.everyschool.chatservice.domain.chat.Chat;
 import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
-import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
@@ -23,11 +24,20 @@ public class ChatMongoService {
         this.mongoOperations = mongoOperations;
     }
 
-    public long chatUpdate(Long chatId) {
-        Chat chat = mongoOperations.findAndModify(query(where("chat_id").is(chatId)),
+    /**
+     * 채팅 여러 개를 한 번의 쓰기로 경고 상태로 변경
+     *
+     * @param chatIds
+     * @return 변경된 채팅 수
+     */
+    public long updateWarningChats(Collection<Long> chatIds) {
+        if (chatIds.isEmpty()) {
+            return 0;
+        }
+        UpdateResult result = mongoOperations.updateMulti(query(where("id").in(chatIds)),
                 new Update().set("status", ChatStatus.WARNING.getCode())
-                        .set("lastModifiedDate", LocalDateTime.now()), options().returnNew(true).upsert(true),
+                        .set("lastModifiedDate", LocalDateTime.now()),
                 Chat.class);
-        return chatId;
+        return result.getModifiedCount();
     }
 }
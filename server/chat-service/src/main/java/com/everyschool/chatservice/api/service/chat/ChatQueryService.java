@@ -3,9 +3,12 @@ package com.everyschool.chatservice.api.service.chat;
 import com.everyschool.chatservice.api.client.UserServiceClient;
 import com.everyschool.chatservice.api.client.response.UserInfo;
 import com.everyschool.chatservice.api.controller.chat.response.*;
+import com.everyschool.chatservice.api.service.chat.recent.ChatRecentWindow;
+import com.everyschool.chatservice.api.service.chat.recent.RecentChat;
 import com.everyschool.chatservice.domain.chat.Chat;
 import com.everyschool.chatservice.domain.chat.ChatReview;
 import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
 import com.everyschool.chatservice.domain.chat.repository.ChatRepository;
 import com.everyschool.chatservice.domain.chat.repository.ChatReviewQueryRepository;
 import com.everyschool.chatservice.domain.chat.repository.ChatReviewRepository;
@@ -18,10 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.everyschool.chatservice.domain.chat.ChatStatus.WARNING;
 
@@ -31,7 +32,11 @@ import static com.everyschool.chatservice.domain.chat.ChatStatus.WARNING;
 @Slf4j
 public class ChatQueryService {
 
+    private static final int CHAT_PAGE_SIZE = 20;
+
     private final ChatRepository chatRepository;
+    private final ChatQueryRepository chatQueryRepository;
+    private final ChatRecentWindow chatRecentWindow;
     private final ChatReviewRepository chatReviewRepository;
     private final ChatReviewQueryRepository chatReviewQueryRepository;
     private final ReasonRepository reasonRepository;
@@ -52,25 +57,48 @@ public class ChatQueryService {
         if (idx == null) {
             idx = Long.MAX_VALUE;
         }
-        List<Chat> list = chatRepository.findTop20ChatsByChatRoomIdAndStatusNotAndIdLessThanOrderByIdDesc(chatRoomId, ChatStatus.BAD.getCode(), idx);
+        List<RecentChat> list = searchChatPage(chatRoomId, idx);
         log.debug("[Service] 채팅 목록 불러오기 요청됨. 채팅 리스트 수 = {}", list.size());
         List<ChatResponse> responses = new ArrayList<>();
-        for (Chat chat : list) {
+        for (RecentChat chat : list) {
             ChatResponse response = createChatResponse(loginUser, chat);
             responses.add(response);
         }
         return responses;
     }
 
+    /**
+     * 채팅 한 페이지 조회
+     * 최근 채팅 보관소에서 먼저 읽고, 한 페이지가 채워지지 않으면 Mongo 결과와 합침
+     */
+    private List<RecentChat> searchChatPage(Long chatRoomId, Long idx) {
+        List<RecentChat> recentChats = chatRecentWindow.findBefore(chatRoomId, idx, CHAT_PAGE_SIZE);
+        if (recentChats.size() >= CHAT_PAGE_SIZE) {
+            return recentChats;
+        }
+
+        NavigableMap<Long, RecentChat> page = new TreeMap<>(Comparator.reverseOrder());
+        for (RecentChat recentChat : recentChats) {
+            page.put(recentChat.getId(), recentChat);
+        }
+        for (Chat chat : chatQueryRepository.findChatPage(chatRoomId, ChatStatus.BAD.getCode(), idx, CHAT_PAGE_SIZE)) {
+            page.putIfAbsent(chat.getId(), RecentChat.of(chat));
+        }
+        return page.values().stream()
+                .limit(CHAT_PAGE_SIZE)
+                .collect(Collectors.toList());
+    }
+
     public WarningChatResponse searchReviewChat(Long chatRoomId, Long reviewId, LocalDate date, String token) {
         log.debug("[Service] 악성 의심 채팅 목록 불러오기 요청됨. 채팅방 Id = {}", chatRoomId);
         log.debug("[Service] 악성 의심 채팅 목록 불러오기 요청됨. 채팅 날짜 = {}", date.toString());
         UserInfo loginUser = userServiceClient.searchUserInfo(token);
         List<Chat> chats = chatRepository.findByCreatedDateBetweenAndChatRoomIdAndStatusIsNotOrderByCreatedDate(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), chatRoomId, ChatStatus.BAD.getCode());
         log.debug("[Service] 악성 의심 채팅 목록 불러오기 요청됨. 채팅 리스트 수 = {}", chats.size());
+        Map<Long, String> warningReasons = searchWarningReasons(chats);
         List<WarningChat> warningChats = new ArrayList<>();
         for (Chat chat : chats) {
-            createWarningChatResponse(loginUser, warningChats, chat);
+            createWarningChatResponse(loginUser, warningChats, chat, warningReasons);
         }
 
         ChatReview chatReview = chatReviewRepository.findById(reviewId).orElseThrow(()
@@ -82,14 +110,32 @@ public class ChatQueryService {
                 .build();
     }
 
-    private void createWarningChatResponse(UserInfo loginUser, List<WarningChat> responses, Chat chat) {
+    /**
+     * 경고 채팅의 사유를 한 번에 조회
+     *
+     * @param chats
+     * @return 채팅 Id별 경고 사유
+     */
+    private Map<Long, String> searchWarningReasons(List<Chat> chats) {
+        List<Long> warningChatIds = chats.stream()
+                .filter(chat -> chat.getStatus() == WARNING.getCode())
+                .map(Chat::getId)
+                .collect(Collectors.toList());
+        if (warningChatIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return reasonRepository.findByChatIdIn(warningChatIds).stream()
+                .collect(Collectors.toMap(Reason::getChatId, Reason::getFilterReason, (first, second) -> first));
+    }
+
+    private void createWarningChatResponse(UserInfo loginUser, List<WarningChat> responses, Chat chat, Map<Long, String> warningReasons) {
         int status = chat.getStatus();
         String warningReason = "";
         if (status == WARNING.getCode()) {
-            Reason reason = reasonRepository.findByChatId(chat.getId()).orElseThrow(()
-                    -> new NoSuchElementException("잘못된 요청입니다."));
-
-            warningReason = reason.getFilterReason();
+            warningReason = warningReasons.get(chat.getId());
+            if (warningReason == null) {
+                throw new NoSuchElementException("잘못된 요청입니다.");
+            }
         }
         WarningChat response = WarningChat.builder()
                 .chatId(chat.getId())
@@ -121,7 +167,7 @@ public class ChatQueryService {
         return chatReviewQueryRepository.searchReviewChatList(loginUser.getUserId());
     }
 
-    private static ChatResponse createChatResponse(UserInfo loginUser, Chat chat) {
+    private static ChatResponse createChatResponse(UserInfo loginUser, RecentChat chat) {
         return ChatResponse.builder()
                 .chatId(chat.getId())
                 .isMine(Objects.equals(loginUser.getUserId(), chat.getUserId()))
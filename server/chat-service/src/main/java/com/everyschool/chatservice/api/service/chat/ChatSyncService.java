@@ -0,0 +1,135 @@
+package com.everyschool.chatservice.api.service.chat;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.response.ChatRoomListResponse;
+import com.everyschool.chatservice.api.controller.chat.response.ChatSyncChatResponse;
+import com.everyschool.chatservice.api.controller.chat.response.ChatSyncRoomResponse;
+import com.everyschool.chatservice.api.service.chat.recent.ChatRecentWindow;
+import com.everyschool.chatservice.api.service.chat.recent.RecentChat;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomQueryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 재접속한 클라이언트의 채팅 동기화
+ * 채팅방마다 마지막으로 받은 채팅 이후의 채팅과 채팅방 상태를 NDJSON으로 한 줄씩 전송함
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ChatSyncService {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final UserServiceClient userServiceClient;
+    private final ChatRoomQueryRepository chatRoomQueryRepository;
+    private final ChatRoomCounter chatRoomCounter;
+    private final ChatQueryRepository chatQueryRepository;
+    private final ChatRecentWindow chatRecentWindow;
+    private final ObjectMapper objectMapper;
+    private final int maxChatsPerRoom;
+
+    public ChatSyncService(UserServiceClient userServiceClient,
+                           ChatRoomQueryRepository chatRoomQueryRepository,
+                           ChatRoomCounter chatRoomCounter,
+                           ChatQueryRepository chatQueryRepository,
+                           ChatRecentWindow chatRecentWindow,
+                           ObjectMapper objectMapper,
+                           @Value("${chat.sync.max-chats-per-room:300}") int maxChatsPerRoom) {
+        this.userServiceClient = userServiceClient;
+        this.chatRoomQueryRepository = chatRoomQueryRepository;
+        this.chatRoomCounter = chatRoomCounter;
+        this.chatQueryRepository = chatQueryRepository;
+        this.chatRecentWindow = chatRecentWindow;
+        this.objectMapper = objectMapper;
+        this.maxChatsPerRoom = maxChatsPerRoom;
+    }
+
+    /**
+     * 채팅 동기화
+     * 채팅방마다 lastChatId 이후 채팅 줄을 Id 순서로 보낸 뒤 채팅방 줄을 보냄
+     * 채팅이 max-chats-per-room 개보다 많으면 hasMore가 true이고, 마지막으로 받은 채팅 Id로 다시 요청하면 됨
+     * lastChatId가 없는 채팅방은 채팅방 줄만 보냄
+     *
+     * @param token
+     * @param lastChatIds 채팅방 Id별 마지막으로 받은 채팅 Id
+     * @return NDJSON 응답
+     */
+    public StreamingResponseBody sync(String token, Map<Long, Long> lastChatIds) {
+        UserInfo loginUser = userServiceClient.searchUserInfo(token);
+        List<ChatRoomListResponse> chatRooms = chatRoomQueryRepository.findChatRooms(loginUser.getUserId()).stream()
+                .filter(chatRoom -> lastChatIds.containsKey(chatRoom.getRoomId()))
+                .collect(Collectors.toList());
+        chatRoomCounter.apply(chatRooms, loginUser.getUserId());
+        log.debug("[채팅 동기화] 요청 채팅방 수 = {}, 동기화 채팅방 수 = {}", lastChatIds.size(), chatRooms.size());
+
+        return out -> {
+            for (ChatRoomListResponse chatRoom : chatRooms) {
+                writeChatRoom(out, chatRoom, lastChatIds.get(chatRoom.getRoomId()), loginUser.getUserId());
+                out.flush();
+            }
+        };
+    }
+
+    private void writeChatRoom(OutputStream out, ChatRoomListResponse chatRoom, Long lastChatId, Long loginUserId) throws IOException {
+        boolean hasMore = true;
+        if (lastChatId != null) {
+            List<RecentChat> chats = searchChatsAfter(chatRoom.getRoomId(), lastChatId);
+            hasMore = chats.size() > maxChatsPerRoom;
+            for (RecentChat chat : chats.subList(0, Math.min(chats.size(), maxChatsPerRoom))) {
+                writeLine(out, ChatSyncChatResponse.builder()
+                        .chatRoomId(chatRoom.getRoomId())
+                        .chatId(chat.getId())
+                        .isMine(Objects.equals(loginUserId, chat.getUserId()))
+                        .content(chat.getContent())
+                        .sendTime(chat.getCreatedDate())
+                        .build());
+            }
+        }
+        writeLine(out, ChatSyncRoomResponse.builder()
+                .chatRoomId(chatRoom.getRoomId())
+                .lastMessage(chatRoom.getLastMessage())
+                .updateTime(chatRoom.getUpdateTime())
+                .unreadMessageNum(chatRoom.getUnreadMessageNum())
+                .hasMore(hasMore)
+                .build());
+    }
+
+    /**
+     * lastChatId 이후 채팅 최대 max-chats-per-room + 1 개 조회
+     * 최근 채팅 보관소가 lastChatId까지 보관하고 있으면 Mongo는 조회하지 않음
+     */
+    private List<RecentChat> searchChatsAfter(Long chatRoomId, Long lastChatId) {
+        List<RecentChat> recentChats = chatRecentWindow.findAfter(chatRoomId, lastChatId, maxChatsPerRoom + 1);
+        if (recentChats != null) {
+            return recentChats;
+        }
+
+        NavigableMap<Long, RecentChat> chats = new TreeMap<>();
+        for (Chat chat : chatQueryRepository.findChatsAfter(chatRoomId, ChatStatus.BAD.getCode(), lastChatId, maxChatsPerRoom + 1)) {
+            chats.put(chat.getId(), RecentChat.of(chat));
+        }
+        return chats.values().stream()
+                .limit(maxChatsPerRoom + 1L)
+                .collect(Collectors.toList());
+    }
+
+    private void writeLine(OutputStream out, Object line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,17 @@
+package com.everyschool.chatservice.api.service.chat.broker;
+
+/**
+ * 채팅방 구독자에게 메세지 전달
+ */
+public interface ChatRoomMessagePublisher {
+
+    String DESTINATION_PREFIX = "/sub/";
+
+    /**
+     * 채팅방 구독자 전체에게 메세지 전달
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param payload    전달할 메세지
+     */
+    void publish(Long chatRoomId, Object payload);
+}
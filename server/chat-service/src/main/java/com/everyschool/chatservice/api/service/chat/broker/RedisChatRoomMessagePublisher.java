@@ -0,0 +1,160 @@
+package com.everyschool.chatservice.api.service.chat.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis pub/sub으로 모든 채팅 서버에 메세지 전달 (chat.broker.mode=redis)
+ * 서버마다 자신에게 연결된 구독이 있는 채팅방 채널만 구독하고, 받은 메세지는 로컬 구독자에게만 전달함
+ */
+@Slf4j
+public class RedisChatRoomMessagePublisher implements ChatRoomMessagePublisher, MessageListener {
+
+    public static final String CHANNEL_PREFIX = "CHAT_ROOM_CHANNEL_";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessageSendingOperations template;
+    private final ObjectMapper objectMapper;
+
+    // 채팅방 Id -> 이 서버의 구독 키(세션 Id/구독 Id) 목록
+    private final Map<Long, Set<String>> roomSubscriptions = new HashMap<>();
+    // 세션 Id -> (구독 Id -> 채팅방 Id)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+
+    public RedisChatRoomMessagePublisher(StringRedisTemplate redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         SimpMessageSendingOperations template,
+                                         ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.template = template;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(Long chatRoomId, Object payload) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + chatRoomId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메세지를 변환할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * Redis 채널에서 받은 메세지를 이 서버의 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String chatRoomId = channel.substring(CHANNEL_PREFIX.length());
+        try {
+            JsonNode payload = objectMapper.readTree(message.getBody());
+            template.convertAndSend(DESTINATION_PREFIX + chatRoomId, payload);
+        } catch (Exception e) {
+            log.warn("[Redis 브로커] 메세지 전달 실패. 채널 = {}, {}", channel, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = getChatRoomId(accessor.getDestination());
+        if (chatRoomId == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), chatRoomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public synchronized void subscribe(String sessionId, String subscriptionId, Long chatRoomId) {
+        sessionSubscriptions.computeIfAbsent(sessionId, key -> new HashMap<>()).put(subscriptionId, chatRoomId);
+        Set<String> subscriptions = roomSubscriptions.computeIfAbsent(chatRoomId, key -> new HashSet<>());
+        if (subscriptions.isEmpty()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + chatRoomId));
+            log.debug("[Redis 브로커] 채팅방 채널 구독. 채팅방 Id = {}", chatRoomId);
+        }
+        subscriptions.add(sessionId + "/" + subscriptionId);
+    }
+
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long chatRoomId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (chatRoomId != null) {
+            removeRoomSubscription(chatRoomId, sessionId + "/" + subscriptionId);
+        }
+    }
+
+    public synchronized void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (Map.Entry<String, Long> entry : subscriptions.entrySet()) {
+            removeRoomSubscription(entry.getValue(), sessionId + "/" + entry.getKey());
+        }
+    }
+
+    public synchronized Set<Long> getSubscribedChatRoomIds() {
+        return new HashSet<>(roomSubscriptions.keySet());
+    }
+
+    private void removeRoomSubscription(Long chatRoomId, String subscriptionKey) {
+        Set<String> subscriptions = roomSubscriptions.get(chatRoomId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.remove(subscriptionKey);
+        if (subscriptions.isEmpty()) {
+            roomSubscriptions.remove(chatRoomId);
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + chatRoomId));
+            log.debug("[Redis 브로커] 채팅방 채널 구독 해제. 채팅방 Id = {}", chatRoomId);
+        }
+    }
+
+    private Long getChatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
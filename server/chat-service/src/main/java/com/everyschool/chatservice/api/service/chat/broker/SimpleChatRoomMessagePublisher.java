@@ -0,0 +1,18 @@
+package com.everyschool.chatservice.api.service.chat.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+/**
+ * 같은 서버에 연결된 구독자에게만 메세지 전달 (chat.broker.mode=simple)
+ */
+@RequiredArgsConstructor
+public class SimpleChatRoomMessagePublisher implements ChatRoomMessagePublisher {
+
+    private final SimpMessageSendingOperations template;
+
+    @Override
+    public void publish(Long chatRoomId, Object payload) {
+        template.convertAndSend(DESTINATION_PREFIX + chatRoomId, payload);
+    }
+}
@@ -0,0 +1,199 @@
+package com.everyschool.chatservice.api.service.chat.notification;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.service.chat.dto.SendMessageDto;
+import com.everyschool.chatservice.api.service.chatroom.presence.ChatRoomPresence;
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 채팅 알림 비동기 전송
+ * 소켓 전송 스레드에서는 알림 요청만 모아두고, window 주기마다 별도 스레드 풀에서 전송함
+ * 같은 주기 안에 같은 채팅방으로 보낸 여러 메세지는 알림 하나로 합쳐서 sendEach로 한 번에 전송함
+ */
+@Component
+@Slf4j
+public class ChatNotificationDispatcher {
+
+    private static final int FCM_BATCH_SIZE = 500;
+    private static final int NOTIFICATION_LENGTH = 50;
+
+    private final UserServiceClient userServiceClient;
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private final ChatRoomPresence chatRoomPresence;
+    private final FirebaseMessaging firebaseMessaging;
+
+    private final ConcurrentMap<String, PendingNotification> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor workers;
+
+    public ChatNotificationDispatcher(UserServiceClient userServiceClient,
+                                      ChatRoomUserQueryRepository chatRoomUserQueryRepository,
+                                      ChatRoomPresence chatRoomPresence,
+                                      FirebaseMessaging firebaseMessaging,
+                                      @Value("${chat.notification.window-ms:1000}") long windowMillis,
+                                      @Value("${chat.notification.pool-size:2}") int poolSize,
+                                      @Value("${chat.notification.queue-capacity:100}") int queueCapacity) {
+        this.userServiceClient = userServiceClient;
+        this.chatRoomUserQueryRepository = chatRoomUserQueryRepository;
+        this.chatRoomPresence = chatRoomPresence;
+        this.firebaseMessaging = firebaseMessaging;
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreadFactory("chat-notification-"),
+                (task, executor) -> log.warn("[채팅 알림] 알림 전송 대기열이 가득 차서 알림을 버림"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("chat-notification-window-"));
+        this.scheduler.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림 요청 등록 (원격 호출 없음)
+     *
+     * @param dto
+     */
+    public void submit(SendMessageDto dto) {
+        String key = dto.getChatRoomId() + ":" + dto.getSenderUserKey();
+        pending.merge(key, new PendingNotification(dto), PendingNotification::merge);
+    }
+
+    /**
+     * 모아둔 알림 요청을 스레드 풀로 넘김
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingNotification> batch = new ArrayList<>();
+        for (String key : new ArrayList<>(pending.keySet())) {
+            PendingNotification notification = pending.remove(key);
+            if (notification != null) {
+                batch.add(notification);
+            }
+        }
+        for (int from = 0; from < batch.size(); from += FCM_BATCH_SIZE) {
+            List<PendingNotification> chunk = batch.subList(from, Math.min(from + FCM_BATCH_SIZE, batch.size()));
+            workers.execute(() -> send(chunk));
+        }
+    }
+
+    private void send(List<PendingNotification> batch) {
+        Map<String, UserInfo> senders = new HashMap<>();
+        List<Message> messages = new ArrayList<>();
+        for (PendingNotification notification : batch) {
+            try {
+                createMessage(notification, senders).ifPresent(messages::add);
+            } catch (Exception e) {
+                log.debug("[채팅 알림] 알림 생성 실패. {}", e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(messages);
+            log.debug("[채팅 알림] 알림 보냄. 성공 = {}, 실패 = {}", response.getSuccessCount(), response.getFailureCount());
+        } catch (Exception e) {
+            log.debug("[채팅 알림] 알림 전송 실패. {}", e.getMessage());
+        }
+    }
+
+    private Optional<Message> createMessage(PendingNotification notification, Map<String, UserInfo> senders) {
+        Long chatRoomId = notification.chatRoomId;
+        // 상대가 채팅방에 들어와 있으면 알림 보내지 않음
+        if (chatRoomPresence.count(chatRoomId) != 1) {
+            return Optional.empty();
+        }
+
+        UserInfo senderUser = senders.computeIfAbsent(notification.senderUserKey, userServiceClient::searchUserInfoByUserKey);
+        Long opponentUserId = chatRoomUserQueryRepository.findOpponentUserId(chatRoomId, senderUser.getUserId())
+                .orElseThrow(() -> new NoSuchElementException("상대 유저 정보를 찾을 수 없습니다."));
+
+        String childName = "";
+        if (senderUser.getUserType() == 'M' || senderUser.getUserType() == 'F') {
+            childName = chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(chatRoomId, senderUser.getUserId())
+                    .map(ChatRoomUser::getChildName)
+                    .orElse("");
+        }
+
+        String fcmToken = userServiceClient.searchFcmTokenByUserId(opponentUserId);
+        Notification body = Notification.builder()
+                .setTitle(senderUser.getUserName())
+                .setBody(notification.getBody())
+                .build();
+        return Optional.of(Message.builder()
+                .setToken(fcmToken)
+                .setNotification(body)
+                .putData("type", "chat")
+                .putData("senderUserName", senderUser.getUserName())
+                .putData("senderUserType", String.valueOf(senderUser.getUserType()))
+                .putData("senderUserChildName", childName)
+                .putData("chatRoomId", String.valueOf(chatRoomId))
+                .build());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        flush();
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        ThreadFactory delegate = Executors.defaultThreadFactory();
+        return runnable -> {
+            Thread thread = delegate.newThread(runnable);
+            thread.setName(prefix + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 같은 채팅방, 같은 보낸 사람의 합쳐진 알림
+     */
+    private static class PendingNotification {
+
+        private final Long chatRoomId;
+        private final String senderUserKey;
+        private final String lastMessage;
+        private final int count;
+
+        PendingNotification(SendMessageDto dto) {
+            this(dto.getChatRoomId(), dto.getSenderUserKey(), dto.getMessage(), 1);
+        }
+
+        private PendingNotification(Long chatRoomId, String senderUserKey, String lastMessage, int count) {
+            this.chatRoomId = chatRoomId;
+            this.senderUserKey = senderUserKey;
+            this.lastMessage = lastMessage;
+            this.count = count;
+        }
+
+        PendingNotification merge(PendingNotification next) {
+            return new PendingNotification(chatRoomId, senderUserKey, next.lastMessage, count + next.count);
+        }
+
+        String getBody() {
+            String body = lastMessage;
+            if (body.length() > NOTIFICATION_LENGTH) {
+                body = body.substring(0, NOTIFICATION_LENGTH) + "...";
+            }
+            if (count > 1) {
+                body = body + " 외 " + (count - 1) + "건";
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.everyschool.chatservice.api.service.chat.recent;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 최근 메세지 Redis 보관
+ * 채팅방마다 sorted set 하나에 채팅 Id를 점수로 최근 size 개의 채팅을 저장함
+ * 채팅 목록의 첫 페이지는 대부분 여기서 읽고, 보관 범위보다 오래된 채팅만 Mongo에서 조회함
+ * 추가에 실패한 채팅방은 중간에 빠진 채팅이 있을 수 있으므로 보관 내용을 지우고, 지울 때까지 Mongo에서 조회하게 함
+ */
+@Component
+@Slf4j
+public class ChatRecentWindow {
+
+    public static final String KEY_PREFIX = "CHAT_ROOM_RECENT_";
+
+    /**
+     * 채팅 추가 후 최근 size 개만 남기고 만료 시간 갱신
+     * ARGV: 채팅 Id, 채팅, 보관 개수, 만료 시간(ms)
+     */
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+                    "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int size;
+    private final long ttlMillis;
+    private final Set<Long> coldChatRoomIds = ConcurrentHashMap.newKeySet();
+
+    public ChatRecentWindow(StringRedisTemplate redisTemplate,
+                            @Value("${chat.recent-window.size:100}") int size,
+                            @Value("${chat.recent-window.ttl-ms:604800000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.size = size;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 전송된 채팅 추가
+     * Redis 오류는 채팅 전송을 막지 않도록 기록하고 채팅방 보관 내용을 무효화함
+     *
+     * @param chat
+     */
+    public void add(Chat chat) {
+        if (!isWarm(chat.getChatRoomId())) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADD, Collections.singletonList(key(chat.getChatRoomId())),
+                    String.valueOf(chat.getId()), OBJECT_MAPPER.writeValueAsString(RecentChat.of(chat)),
+                    String.valueOf(size), String.valueOf(ttlMillis));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[최근 채팅] 추가 실패. 채팅방 Id = {}, 채팅 Id = {}", chat.getChatRoomId(), chat.getId(), e);
+            coldChatRoomIds.add(chat.getChatRoomId());
+            isWarm(chat.getChatRoomId());
+        }
+    }
+
+    /**
+     * idx보다 Id가 작은 최근 채팅 조회 (Id 내림차순)
+     * Redis 오류가 나면 빈 목록을 반환해서 Mongo에서 조회하게 함
+     *
+     * @param chatRoomId
+     * @param idx
+     * @param limit
+     * @return 최근 채팅 목록
+     */
+    public List<RecentChat> findBefore(Long chatRoomId, long idx, int limit) {
+        if (!isWarm(chatRoomId)) {
+            return Collections.emptyList();
+        }
+        Set<String> values;
+        try {
+            values = redisTemplate.opsForZSet()
+                    .reverseRangeByScore(key(chatRoomId), Double.NEGATIVE_INFINITY, Math.nextDown((double) idx), 0, limit);
+        } catch (RuntimeException e) {
+            log.warn("[최근 채팅] 조회 실패. 채팅방 Id = {}", chatRoomId, e);
+            return Collections.emptyList();
+        }
+        return values == null ? Collections.emptyList() : read(chatRoomId, values);
+    }
+
+    /**
+     * lastChatId보다 Id가 큰 최근 채팅 조회 (Id 오름차순)
+     * 보관 중인 가장 오래된 채팅이 lastChatId 이후라면 그 사이 채팅이 빠져 있을 수 있으므로 null 반환
+     *
+     * @param chatRoomId
+     * @param lastChatId
+     * @param limit
+     * @return 최근 채팅 목록, 보관 범위 밖이거나 Redis 오류가 나면 null
+     */
+    public List<RecentChat> findAfter(Long chatRoomId, long lastChatId, int limit) {
+        if (!isWarm(chatRoomId)) {
+            return null;
+        }
+        Set<ZSetOperations.TypedTuple<String>> oldest;
+        Set<String> values;
+        try {
+            oldest = redisTemplate.opsForZSet().rangeWithScores(key(chatRoomId), 0, 0);
+            if (oldest == null || oldest.isEmpty() || oldest.iterator().next().getScore() > lastChatId) {
+                return null;
+            }
+            values = redisTemplate.opsForZSet()
+                    .rangeByScore(key(chatRoomId), Math.nextUp((double) lastChatId), Double.POSITIVE_INFINITY, 0, limit);
+        } catch (RuntimeException e) {
+            log.warn("[최근 채팅] 조회 실패. 채팅방 Id = {}", chatRoomId, e);
+            return null;
+        }
+        return values == null ? Collections.emptyList() : read(chatRoomId, values);
+    }
+
+    /**
+     * 무효화된 채팅방이면 보관 내용을 지우고, 지우는 데 성공해야 다시 사용함
+     *
+     * @param chatRoomId
+     * @return 보관 내용을 사용할 수 있으면 true
+     */
+    private boolean isWarm(Long chatRoomId) {
+        if (!coldChatRoomIds.contains(chatRoomId)) {
+            return true;
+        }
+        try {
+            redisTemplate.delete(key(chatRoomId));
+        } catch (RuntimeException e) {
+            log.warn("[최근 채팅] 무효화 실패. 채팅방 Id = {}", chatRoomId, e);
+            return false;
+        }
+        coldChatRoomIds.remove(chatRoomId);
+        return true;
+    }
+
+    private List<RecentChat> read(Long chatRoomId, Set<String> values) {
+        List<RecentChat> chats = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                chats.add(OBJECT_MAPPER.readValue(value, RecentChat.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[최근 채팅] 읽기 실패. 채팅방 Id = {}", chatRoomId, e);
+            }
+        }
+        return chats;
+    }
+
+    private static String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.everyschool.chatservice.api.service.chat.recent;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 채팅 보관용 채팅 정보
+ * 채팅 목록 응답에 필요한 필드만 저장함
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecentChat {
+
+    private Long id;
+    private Long userId;
+    private String content;
+    private LocalDateTime createdDate;
+
+    @Builder
+    private RecentChat(Long id, Long userId, String content, LocalDateTime createdDate) {
+        this.id = id;
+        this.userId = userId;
+        this.content = content;
+        this.createdDate = createdDate;
+    }
+
+    public static RecentChat of(Chat chat) {
+        return RecentChat.builder()
+                .id(chat.getId())
+                .userId(chat.getUserId())
+                .content(chat.getContent())
+                .createdDate(chat.getCreatedDate())
+                .build();
+    }
+}
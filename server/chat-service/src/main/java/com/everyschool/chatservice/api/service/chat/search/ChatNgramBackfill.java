@@ -0,0 +1,78 @@
+package com.everyschool.chatservice.api.service.chat.search;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 검색 기능 추가 전에 저장된 채팅의 bigram 채우기
+ * 서버 시작 후 별도 스레드에서 batch-size 개씩 채우고, bigram이 없는 채팅이 없으면 종료함
+ * 여러 서버에서 동시에 실행되어도 같은 값을 쓰므로 문제없음
+ */
+@Component
+@Slf4j
+public class ChatNgramBackfill {
+
+    private final ChatQueryRepository chatQueryRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public ChatNgramBackfill(ChatQueryRepository chatQueryRepository,
+                             @Value("${chat.search.backfill.enabled:true}") boolean enabled,
+                             @Value("${chat.search.backfill.batch-size:500}") int batchSize) {
+        this.chatQueryRepository = chatQueryRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.worker = new Thread(this::backfill, "chat-ngram-backfill");
+        this.worker.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    /**
+     * bigram이 없는 채팅을 Id 순서로 채움
+     *
+     * @return 채운 채팅 수
+     */
+    long backfill() {
+        long filled = 0;
+        long lastId = 0;
+        try {
+            while (running) {
+                List<Chat> chats = chatQueryRepository.findChatsWithoutNgrams(lastId, batchSize);
+                if (chats.isEmpty()) {
+                    break;
+                }
+                chatQueryRepository.updateNgrams(chats);
+                filled += chats.size();
+                lastId = chats.get(chats.size() - 1).getId();
+            }
+            if (filled > 0) {
+                log.info("[채팅 검색] bigram 채우기 완료. 채팅 수 = {}", filled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[채팅 검색] bigram 채우기 실패. 채운 채팅 수 = {}", filled, e);
+        }
+        return filled;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+}
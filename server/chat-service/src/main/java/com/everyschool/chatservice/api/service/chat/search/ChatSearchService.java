@@ -0,0 +1,120 @@
+package com.everyschool.chatservice.api.service.chat.search;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.response.ChatSearchResponse;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatNgrams;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.mongodb.lang.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 내용 검색
+ * 검색어의 bigram을 모두 포함한 채팅을 최신순으로 읽으면서 실제로 검색어가 포함된 채팅만 반환함
+ * 로그인한 사용자가 속한 채팅방에서만 검색함
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ChatSearchService {
+
+    private final UserServiceClient userServiceClient;
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private final ChatQueryRepository chatQueryRepository;
+    private final int pageSize;
+    private final int maxScan;
+
+    public ChatSearchService(UserServiceClient userServiceClient,
+                             ChatRoomUserQueryRepository chatRoomUserQueryRepository,
+                             ChatQueryRepository chatQueryRepository,
+                             @Value("${chat.search.page-size:20}") int pageSize,
+                             @Value("${chat.search.max-scan:1000}") int maxScan) {
+        this.userServiceClient = userServiceClient;
+        this.chatRoomUserQueryRepository = chatRoomUserQueryRepository;
+        this.chatQueryRepository = chatQueryRepository;
+        this.pageSize = pageSize;
+        this.maxScan = maxScan;
+    }
+
+    /**
+     * 채팅 검색
+     * chatRoomId가 없으면 속한 모든 채팅방에서 검색함
+     * idx보다 Id가 작은 채팅 중 최신순으로 page-size 개를 반환하고, 다음 페이지는 마지막 채팅 Id를 idx로 요청함
+     * 후보 채팅을 max-scan 개까지만 확인하므로 결과가 page-size 개보다 적어도 다음 페이지가 있을 수 있음
+     *
+     * @param token
+     * @param keyword
+     * @param chatRoomId
+     * @param idx
+     * @return 검색된 채팅 목록
+     */
+    public List<ChatSearchResponse> search(String token, String keyword, @Nullable Long chatRoomId, @Nullable Long idx) {
+        List<String> keywordTokens = ChatNgrams.tokenize(keyword);
+        List<String> ngrams = ChatNgrams.ofKeyword(keyword);
+        if (keywordTokens.stream().mapToInt(String::length).sum() < 2) {
+            throw new IllegalArgumentException("검색어는 두 글자 이상 입력해주세요.");
+        }
+
+        UserInfo loginUser = userServiceClient.searchUserInfo(token);
+        List<Long> chatRoomIds = chatRoomUserQueryRepository.findChatRoomIdsByUserId(loginUser.getUserId());
+        if (chatRoomId != null) {
+            if (!chatRoomIds.contains(chatRoomId)) {
+                throw new IllegalArgumentException("참여하지 않은 채팅방입니다.");
+            }
+            chatRoomIds = List.of(chatRoomId);
+        }
+        if (chatRoomIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (idx == null) {
+            idx = Long.MAX_VALUE;
+        }
+        log.debug("[채팅 검색] 채팅방 수 = {}, bigram 수 = {}", chatRoomIds.size(), ngrams.size());
+
+        List<ChatSearchResponse> responses = new ArrayList<>();
+        int scanned = 0;
+        try (Stream<Chat> candidates = chatQueryRepository.streamChatsByNgrams(chatRoomIds, ngrams, ChatStatus.BAD.getCode(), idx, pageSize)) {
+            Iterator<Chat> iterator = candidates.iterator();
+            while (iterator.hasNext() && responses.size() < pageSize && scanned++ < maxScan) {
+                Chat chat = iterator.next();
+                if (containsAll(chat.getContent(), keywordTokens)) {
+                    responses.add(createChatSearchResponse(loginUser, chat));
+                }
+            }
+        }
+        log.debug("[채팅 검색] 확인한 채팅 수 = {}, 검색된 채팅 수 = {}", scanned, responses.size());
+        return responses;
+    }
+
+    /**
+     * bigram이 모두 있어도 글자가 떨어져 있을 수 있으므로 단어 단위로 다시 확인
+     */
+    private boolean containsAll(String content, List<String> keywordTokens) {
+        List<String> contentTokens = ChatNgrams.tokenize(content);
+        for (String keywordToken : keywordTokens) {
+            if (contentTokens.stream().noneMatch(contentToken -> contentToken.contains(keywordToken))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ChatSearchResponse createChatSearchResponse(UserInfo loginUser, Chat chat) {
+        return ChatSearchResponse.builder()
+                .chatRoomId(chat.getChatRoomId())
+                .chatId(chat.getId())
+                .isMine(Objects.equals(loginUser.getUserId(), chat.getUserId()))
+                .content(chat.getContent())
+                .sendTime(chat.getCreatedDate())
+                .build();
+    }
+}
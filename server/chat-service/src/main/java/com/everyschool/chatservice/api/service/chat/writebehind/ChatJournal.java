@@ -0,0 +1,253 @@
+package com.everyschool.chatservice.api.service.chat.writebehind;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 아직 DB에 저장되지 않은 채팅을 기록하는 로컬 append-only 저널
+ * 한 줄에 채팅 하나를 JSON으로 기록하고, 서버 재시작 시 다시 읽어 저장함
+ * 저널은 {path}.{번호} 세그먼트로 나누어 기록하고, 세그먼트의 채팅이 모두 DB에 저장되면 해당 파일을 지움
+ * 디스크 동기화(fsync)는 sync-interval 마다 한 번만 하므로, 서버(OS)가 갑자기 꺼지면 마지막 sync-interval 동안 기록한 채팅은 잃을 수 있음
+ * 프로세스만 죽은 경우에는 이미 기록한 채팅을 잃지 않음
+ */
+@Slf4j
+public class ChatJournal {
+
+    private final Path path;
+    private final long syncIntervalNanos;
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * key: 세그먼트 번호, value: 아직 DB에 저장되지 않은 채팅 수
+     */
+    private final Map<Long, Integer> pending = new HashMap<>();
+    private long activeSegment;
+    private FileChannel channel;
+    private boolean dirty;
+    private long lastSyncNanos = System.nanoTime();
+
+    public ChatJournal(Path path) {
+        this(path, 0);
+    }
+
+    public ChatJournal(Path path, long syncIntervalMillis) {
+        this.path = path;
+        this.syncIntervalNanos = syncIntervalMillis * 1_000_000L;
+        this.activeSegment = lastSegment() + 1;
+    }
+
+    /**
+     * 채팅 기록
+     *
+     * @param chat
+     * @return 기록한 세그먼트 번호
+     */
+    public synchronized long append(Chat chat) {
+        try {
+            if (channel == null) {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                channel = FileChannel.open(segmentPath(activeSegment),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer line = ByteBuffer.wrap((mapper.writeValueAsString(chat) + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            dirty = true;
+            pending.merge(activeSegment, 1, Integer::sum);
+            if (System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+                sync();
+            }
+            return activeSegment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 기록 중인 세그먼트를 디스크에 동기화
+     */
+    public synchronized void sync() {
+        if (channel == null || !dirty) {
+            return;
+        }
+        try {
+            channel.force(false);
+            dirty = false;
+            lastSyncNanos = System.nanoTime();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 기록 중인 세그먼트를 닫고 다음 기록부터 새 세그먼트 사용
+     */
+    public synchronized void rotate() {
+        if (channel == null) {
+            return;
+        }
+        sync();
+        closeChannel();
+        activeSegment++;
+    }
+
+    /**
+     * DB에 저장된 채팅 수를 반영하고, 모두 저장된 세그먼트 파일을 지움
+     *
+     * @param committed key: 세그먼트 번호, value: 저장된 채팅 수
+     */
+    public synchronized void commit(Map<Long, Integer> committed) {
+        for (Map.Entry<Long, Integer> entry : committed.entrySet()) {
+            Long segment = entry.getKey();
+            Integer remaining = pending.computeIfPresent(segment, (key, count) -> count - entry.getValue());
+            if (remaining != null && remaining <= 0 && (segment != activeSegment || channel == null)) {
+                pending.remove(segment);
+                deleteQuietly(segmentPath(segment));
+            }
+        }
+    }
+
+    /**
+     * 저널에 남아있는 채팅 목록 읽기
+     * 마지막 줄이 중간에 잘린 경우 해당 줄은 무시함
+     *
+     * @return 저장되지 않았을 수 있는 채팅 목록
+     */
+    public synchronized List<Chat> readAll() {
+        List<Chat> chats = new ArrayList<>();
+        for (Path file : journalFiles()) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        chats.add(mapper.readValue(line, Chat.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("[채팅 저널] 읽을 수 없는 기록 무시. {}", e.getMessage());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return chats;
+    }
+
+    /**
+     * 복구한 저널 파일 삭제
+     * 이 서버에서 기록해서 아직 DB에 저장되지 않은 세그먼트는 남겨두고, 세그먼트 번호는 이어서 사용함
+     * readAll()로 읽은 채팅이 모두 DB에 저장된 뒤에만 호출해야 함
+     */
+    public synchronized void truncate() {
+        String prefix = path.getFileName().toString() + ".";
+        try {
+            for (Path file : journalFiles()) {
+                if (!pending.containsKey(segmentNumber(file, prefix))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        sync();
+        closeChannel();
+    }
+
+    /**
+     * 이전 버전의 단일 저널 파일과 세그먼트 파일을 기록 순서대로 반환
+     */
+    private List<Path> journalFiles() {
+        Path directory = path.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        String prefix = path.getFileName().toString() + ".";
+        List<Path> files = new ArrayList<>();
+        if (Files.exists(path)) {
+            files.add(path);
+        }
+        try (Stream<Path> list = Files.list(directory)) {
+            files.addAll(list
+                    .filter(file -> segmentNumber(file, prefix) >= 0)
+                    .sorted(Comparator.comparingLong(file -> segmentNumber(file, prefix)))
+                    .collect(Collectors.toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return files;
+    }
+
+    private long lastSegment() {
+        String prefix = path.getFileName().toString() + ".";
+        return journalFiles().stream()
+                .mapToLong(file -> segmentNumber(file, prefix))
+                .max()
+                .orElse(0);
+    }
+
+    private static long segmentNumber(Path file, String prefix) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return path.resolveSibling(path.getFileName().toString() + "." + segment);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[채팅 저널] 세그먼트 닫기 실패. {}", e.getMessage());
+        }
+        channel = null;
+        dirty = false;
+        if (pending.getOrDefault(activeSegment, 0) <= 0) {
+            pending.remove(activeSegment);
+            deleteQuietly(segmentPath(activeSegment));
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[채팅 저널] 세그먼트 삭제 실패. {}", e.getMessage());
+        }
+    }
+}
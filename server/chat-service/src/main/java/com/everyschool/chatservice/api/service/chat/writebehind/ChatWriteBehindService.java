@@ -0,0 +1,183 @@
+package com.everyschool.chatservice.api.service.chat.writebehind;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * 채팅 저장 write-behind 처리
+ * 채팅을 저널에 기록한 뒤 큐에 넣고, 별도 스레드가 batch-size 개 또는 flush-interval 마다 bulkWrite로 저장함
+ * 큐가 가득 차면 호출한 스레드에서 바로 저장함
+ * 저널은 batch 마다 새 세그먼트로 넘기고, 저장이 끝난 세그먼트는 바로 지움
+ * 저널 디스크 동기화 주기(journal-sync-interval-ms)만큼의 채팅은 서버(OS) 장애 시 잃을 수 있음
+ */
+@Service
+@Slf4j
+public class ChatWriteBehindService {
+
+    private final MongoOperations mongoOperations;
+    private final ChatJournal journal;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final Object lock = new Object();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ChatWriteBehindService(MongoOperations mongoOperations,
+                                  @Value("${chat.write-behind.journal-path:./chat-journal.log}") String journalPath,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.flush-interval-ms:20}") long flushIntervalMillis,
+                                  @Value("${chat.write-behind.journal-sync-interval-ms:100}") long journalSyncIntervalMillis) {
+        this.mongoOperations = mongoOperations;
+        this.journal = new ChatJournal(Paths.get(journalPath), journalSyncIntervalMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flusher = new Thread(this::runFlusher, "chat-write-behind");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * 서버 시작 시 저널에 남은 채팅 저장 후 저장 스레드 시작
+     * 웹 서버가 요청을 받기 전에 실행하고, 복구가 끝날 때까지 write()는 기다림
+     */
+    @PostConstruct
+    public void start() {
+        synchronized (lock) {
+            List<Chat> pending = journal.readAll();
+            if (!pending.isEmpty()) {
+                log.info("[채팅 저장] 저널 복구. 채팅 수 = {}", pending.size());
+                for (int from = 0; from < pending.size(); from += batchSize) {
+                    bulkSave(pending.subList(from, Math.min(from + batchSize, pending.size())));
+                }
+            }
+            journal.truncate();
+        }
+        flusher.start();
+    }
+
+    /**
+     * 채팅 저장 요청
+     *
+     * @param chat
+     * @return 저장 요청된 채팅
+     */
+    public Chat write(Chat chat) {
+        synchronized (lock) {
+            if (queue.remainingCapacity() > 0) {
+                long segment = journal.append(chat);
+                queue.add(new Pending(chat, segment));
+                return chat;
+            }
+        }
+        log.debug("[채팅 저장] 큐가 가득 차서 바로 저장함. 채팅 Id = {}", chat.getId());
+        return mongoOperations.save(chat);
+    }
+
+    private void runFlusher() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    journal.sync();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                journal.rotate();
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) throws InterruptedException {
+        List<Chat> chats = new ArrayList<>(batch.size());
+        Map<Long, Integer> committed = new HashMap<>();
+        for (Pending pending : batch) {
+            chats.add(pending.chat);
+            committed.merge(pending.segment, 1, Integer::sum);
+        }
+        while (true) {
+            try {
+                bulkSave(chats);
+                break;
+            } catch (RuntimeException e) {
+                log.warn("[채팅 저장] 저장 실패, 재시도함. {}", e.getMessage());
+                journal.sync();
+                TimeUnit.MILLISECONDS.sleep(Math.max(flushIntervalMillis, 100));
+            }
+        }
+        log.debug("[채팅 저장] bulkWrite 완료. 채팅 수 = {}", batch.size());
+        batch.clear();
+        journal.commit(committed);
+    }
+
+    private void bulkSave(List<Chat> chats) {
+        BulkOperations operations = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Chat.class);
+        for (Chat chat : chats) {
+            operations.replaceOne(query(where("id").is(chat.getId())), chat, FindAndReplaceOptions.options().upsert());
+        }
+        operations.execute();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        if (flusher.isAlive()) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        journal.close();
+    }
+
+    /**
+     * 저장 대기 중인 채팅과 기록된 저널 세그먼트 번호
+     */
+    private static class Pending {
+
+        private final Chat chat;
+        private final long segment;
+
+        private Pending(Chat chat, long segment) {
+            this.chat = chat;
+            this.segment = segment;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.everyschool.chatservice.api.service.chatroom;
 import com.everyschool.chatservice.api.client.UserServiceClient;
 import com.everyschool.chatservice.api.client.response.UserInfo;
 import com.everyschool.chatservice.api.controller.chat.response.ChatRoomListResponse;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
 import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ public class ChatRoomQueryService {
 
     private final ChatRoomQueryRepository chatRoomQueryRepository;
     private final UserServiceClient userServiceClient;
+    private final ChatRoomCounter chatRoomCounter;
 
     /**
      * 생성된 채팅방 목록 불러오기
@@ -27,6 +29,8 @@ public class ChatRoomQueryService {
     public List<ChatRoomListResponse> searchChatRooms(String token) {
 
         UserInfo loginUser = userServiceClient.searchUserInfo(token);
-        return chatRoomQueryRepository.findChatRooms(loginUser.getUserId());
+        List<ChatRoomListResponse> chatRooms = chatRoomQueryRepository.findChatRooms(loginUser.getUserId());
+        chatRoomCounter.apply(chatRooms, loginUser.getUserId());
+        return chatRooms;
     }
 }
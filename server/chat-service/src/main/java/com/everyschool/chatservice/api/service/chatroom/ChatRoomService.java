@@ -1,12 +1,14 @@
 package com.everyschool.chatservice.api.service.chatroom;
 
-import com.everyschool.chatservice.api.client.SchoolServiceClient;
 import com.everyschool.chatservice.api.client.UserServiceClient;
 import com.everyschool.chatservice.api.client.response.SchoolClassInfo;
 import com.everyschool.chatservice.api.client.response.UserInfo;
 import com.everyschool.chatservice.api.controller.chatroom.response.CreateChatRoomResponse;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
 import com.everyschool.chatservice.api.service.chatroom.dto.CreateChatRoomDto;
-import com.everyschool.chatservice.api.service.util.RedisUtils;
+import com.everyschool.chatservice.api.service.chatroom.lookup.ChatRoomLookup;
+import com.everyschool.chatservice.api.service.chatroom.lookup.ChatRoomLookups;
+import com.everyschool.chatservice.api.service.chatroom.presence.ChatRoomPresence;
 import com.everyschool.chatservice.domain.chatroom.ChatRoom;
 import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomRepository;
 import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
@@ -17,8 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Transactional
@@ -31,9 +35,10 @@ public class ChatRoomService {
     private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
 
     private final UserServiceClient userServiceClient;
-    private final SchoolServiceClient schoolServiceClient;
+    private final ChatRoomLookups chatRoomLookups;
 
-    private final RedisUtils redisUtil;
+    private final ChatRoomPresence chatRoomPresence;
+    private final ChatRoomCounter chatRoomCounter;
 
     /**
      * 채팅방 생성
@@ -42,24 +47,33 @@ public class ChatRoomService {
      * @return 채팅방 Id, 채팅방 이름, 상대 유저 이름
      */
     public CreateChatRoomResponse createChatRoom(CreateChatRoomDto dto) {
+        ChatRoomLookup lookup = chatRoomLookups.open();
 
-        // 로그인 한 회원 정보 요청
-        UserInfo loginUser = userServiceClient.searchUserInfo(dto.getLoginUserToken());
+        // 로그인 한 회원, 상대 회원, 학급 정보 동시 요청
+        CompletableFuture<UserInfo> loginUserFuture = lookup.searchUserInfo(dto.getLoginUserToken());
+        CompletableFuture<UserInfo> opponentUserFuture = lookup.searchUserInfoByUserKey(dto.getOpponentUserKey());
+        CompletableFuture<SchoolClassInfo> schoolClassInfoFuture = lookup.searchSchoolClassInfo(dto.getSchoolClassId());
+
+        UserInfo loginUser = ChatRoomLookup.join(loginUserFuture);
         log.debug("[채팅방 생성 Service] 로그인 유저 = {}", loginUser.getUserName());
-        // 상대 유저키로 정보 요청
-        UserInfo opponentUser = userServiceClient.searchUserInfoByUserKey(dto.getOpponentUserKey());
+        UserInfo opponentUser = ChatRoomLookup.join(opponentUserFuture);
         log.debug("[채팅방 생성 Service] 상대방 유저 = {}", opponentUser.getUserName());
 
+        CompletableFuture<String> opponentChildNameFuture = searchChildName(lookup, dto.getSchoolClassId(), opponentUser);
+
         Optional<Long> findRoom = chatRoomUserQueryRepository.findChatRoomIdByTwoUserId(loginUser.getUserId(), opponentUser.getUserId());
         if (findRoom.isPresent()) {
-            return createChatRoomResponse(dto, opponentUser, findRoom);
+            return createChatRoomResponse(opponentUser, findRoom, ChatRoomLookup.join(opponentChildNameFuture));
         }
 
+        CompletableFuture<String> loginUserChildNameFuture = searchChildName(lookup, dto.getSchoolClassId(), loginUser);
+        SchoolClassInfo schoolClassInfo = ChatRoomLookup.join(schoolClassInfoFuture);
+
         // 채팅방 생성
         ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().build());
         // 채팅방 유저 생성
-        ChatRoomUser opponentRoom = createChatRoomUser(loginUser.getUserName(), loginUser, dto.getSchoolClassId(), opponentUser.getUserId(), chatRoom);
-        ChatRoomUser loginUserRoom = createChatRoomUser(opponentUser.getUserName(), opponentUser, dto.getSchoolClassId(), loginUser.getUserId(), chatRoom);
+        ChatRoomUser opponentRoom = createChatRoomUser(loginUser, ChatRoomLookup.join(loginUserChildNameFuture), schoolClassInfo, opponentUser.getUserId(), chatRoom);
+        ChatRoomUser loginUserRoom = createChatRoomUser(opponentUser, ChatRoomLookup.join(opponentChildNameFuture), schoolClassInfo, loginUser.getUserId(), chatRoom);
 
         chatRoomUserRepository.save(loginUserRoom);
         chatRoomUserRepository.save(opponentRoom);
@@ -72,13 +86,8 @@ public class ChatRoomService {
                 .build();
     }
 
-    private CreateChatRoomResponse createChatRoomResponse(CreateChatRoomDto dto, UserInfo opponentUser, Optional<Long> findRoom) {
+    private CreateChatRoomResponse createChatRoomResponse(UserInfo opponentUser, Optional<Long> findRoom, String childName) {
         Long findRoomId = findRoom.get();
-        String childName = "";
-        if (opponentUser.getUserType() == 'M' || opponentUser.getUserType() == 'F') {
-            // 부모와 학급키로 학급에 다니는 자녀 이름 요청
-            childName = userServiceClient.searchUsername(dto.getSchoolClassId(), opponentUser.getUserId());
-        }
         return CreateChatRoomResponse.builder()
                 .roomId(findRoomId)
                 .opponentUserName(opponentUser.getUserName())
@@ -87,6 +96,22 @@ public class ChatRoomService {
                 .build();
     }
 
+    /**
+     * 부모 회원이면 학급에 다니는 자녀 이름 요청
+     *
+     * @param lookup
+     * @param schoolClassId
+     * @param user
+     * @return 자녀 이름, 부모가 아니면 빈 문자열
+     */
+    private CompletableFuture<String> searchChildName(ChatRoomLookup lookup, Long schoolClassId, UserInfo user) {
+        if (isParent(user.getUserType())) {
+            // 부모와 학급키로 학급에 다니는 자녀 이름 요청
+            return lookup.searchUsername(schoolClassId, user.getUserId());
+        }
+        return CompletableFuture.completedFuture("");
+    }
+
     /**
      * 채팅방 입장시 채팅방에 있는 인원 증가
      *
@@ -95,36 +120,28 @@ public class ChatRoomService {
      */
     public void connectChatRoom(Long chatRoomId, Long userId) {
         log.debug("[소켓 연결] 레디스. 채팅방 번호 = {}", chatRoomId);
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + chatRoomId;
-        Long roomUserCount = redisUtil.getSetSize(chatRoomUserCountKey);
-        log.debug("[소켓 연결] 기존 채팅방 구독한 사람 수 = {}", roomUserCount);
-        roomUserCount = redisUtil.insertSet(chatRoomUserCountKey, String.valueOf(userId));
+        long roomUserCount = chatRoomPresence.join(chatRoomId, userId);
         log.debug("[소켓 연결] 구독 후 채팅방 사람 수 = {}", roomUserCount);
 
         //채팅 읽음 처리
-        ChatRoomUser chatRoomUser = chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(chatRoomId, userId)
+        chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(chatRoomId, userId)
                 .orElseThrow(() -> new NoSuchElementException("채팅방이 존재하지 않습니다."));
-        chatRoomUser.read();
+        chatRoomCounter.read(chatRoomId, userId);
     }
 
     /**
      * 채팅방 유저 Entity 생성
      *
-     * @param title
      * @param opponentUser
-     * @param schoolClassId
+     * @param childName
+     * @param schoolClassInfo
      * @param userId
      * @param chatRoom
      * @return
      */
-    private ChatRoomUser createChatRoomUser(String title, UserInfo opponentUser, Long schoolClassId, Long userId, ChatRoom chatRoom) {
-        String childName = "";
-        if (opponentUser.getUserType() == 'M' || opponentUser.getUserType() == 'F') {
-            // 부모와 학급키로 학급에 다니는 자녀 이름 요청
-            childName = userServiceClient.searchUsername(schoolClassId, opponentUser.getUserId());
-        }
+    private ChatRoomUser createChatRoomUser(UserInfo opponentUser, String childName, SchoolClassInfo schoolClassInfo, Long userId, ChatRoom chatRoom) {
         return ChatRoomUser.builder()
-                .chatRoomTitle(generateChatRoomTitle(opponentUser, schoolClassId))
+                .chatRoomTitle(generateChatRoomTitle(opponentUser, childName, schoolClassInfo))
                 .childName(childName)
                 .userId(userId)
                 .opponentUserType(String.valueOf(opponentUser.getUserType()))
@@ -134,14 +151,12 @@ public class ChatRoomService {
                 .build();
     }
 
-    private String generateChatRoomTitle(UserInfo opponentUser, Long schoolClassId) {
+    private String generateChatRoomTitle(UserInfo opponentUser, String childName, SchoolClassInfo schoolClassInfo) {
         StringBuilder sb = new StringBuilder();
-        SchoolClassInfo schoolClassInfo = schoolServiceClient.searchSchoolClassInfo(schoolClassId);
 
         char opponentUserUserType = opponentUser.getUserType();
-        if (opponentUserUserType == 'M' || opponentUserUserType == 'F') {
+        if (isParent(opponentUserUserType)) {
             // 부모
-            String childName = userServiceClient.searchUsername(schoolClassId, opponentUser.getUserId());
             sb.append(schoolClassInfo.getClassName())
                     .append(childName);
             if (opponentUserUserType == 'M') {
@@ -163,17 +178,36 @@ public class ChatRoomService {
         return sb.toString();
     }
 
-    public void disconnect(Long chatRoomId, String userKey) {
+    private static boolean isParent(char userType) {
+        return userType == 'M' || userType == 'F';
+    }
+
+    public void disconnect(Long chatRoomId, Long userId) {
         log.debug("[소켓] 인원수 감소. ChatRoomService, disconnect. 채팅방 Id = {}", chatRoomId);
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + chatRoomId;
-        Long roomUserCount = redisUtil.getSetSize(chatRoomUserCountKey);
-        log.debug("[소켓] 지금 채팅방 인원 수 = {}", roomUserCount);
-
-        UserInfo userInfo = userServiceClient.searchUserInfoByUserKey(userKey);
-        log.debug("[소켓] 구독 취소하는 사람 이름 = {}", userInfo.getUserName());
-        Boolean contain = redisUtil.containSet(chatRoomUserCountKey, String.valueOf(userInfo.getUserId()));
-        log.debug("[소켓] 구독 중인가? = {}", contain);
-        roomUserCount = redisUtil.deleteSet(chatRoomUserCountKey, String.valueOf(userInfo.getUserId()));
+        long roomUserCount = chatRoomPresence.leave(chatRoomId, userId);
         log.debug("[소켓] 감소 후 채팅방 인원 수 = {}", roomUserCount);
     }
+
+    /**
+     * 소켓 연결 종료 시 입장해 있던 채팅방 모두 퇴장
+     *
+     * @param chatRoomIds
+     * @param userId
+     */
+    public void leaveChatRooms(Collection<Long> chatRoomIds, Long userId) {
+        for (Long chatRoomId : chatRoomIds) {
+            long roomUserCount = chatRoomPresence.leave(chatRoomId, userId);
+            log.debug("[소켓] 연결 종료. 채팅방 Id = {}, 남은 인원 수 = {}", chatRoomId, roomUserCount);
+        }
+    }
+
+    /**
+     * heartbeat 수신 시 입장해 있는 채팅방 접속 유지
+     *
+     * @param chatRoomIds
+     * @param userId
+     */
+    public void keepAlive(Collection<Long> chatRoomIds, Long userId) {
+        chatRoomPresence.refresh(chatRoomIds, userId);
+    }
 }
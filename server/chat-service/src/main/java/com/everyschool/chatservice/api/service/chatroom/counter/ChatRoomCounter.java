@@ -0,0 +1,218 @@
+package com.everyschool.chatservice.api.service.chatroom.counter;
+
+import com.everyschool.chatservice.api.controller.chat.response.ChatRoomListResponse;
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 채팅방 안 읽은 메세지 수, 마지막 메세지 Redis 관리
+ * 채팅방마다 해시 하나에 회원별 안 읽은 수(unread:{회원 Id})와 마지막 메세지, 마지막 메세지 시각을 저장함
+ * 변경된 채팅방은 dirty 집합에 기록해두고 ChatRoomCounterReconciler가 주기적으로 DB에 반영함
+ * 채팅방 해시는 마지막 사용 후 ttl-seconds 가 지나면 만료되고, 다시 사용할 때 DB 값으로 초기화함
+ */
+@Component
+@Slf4j
+public class ChatRoomCounter {
+
+    public static final String KEY_PREFIX = "CHAT_ROOM_COUNTER_";
+    public static final String DIRTY_KEY = "CHAT_ROOM_COUNTER_DIRTY";
+
+    static final String UNREAD_PREFIX = "unread:";
+    static final String LAST_CONTENT = "lastContent";
+    static final String LAST_MODIFIED = "lastModified";
+    private static final String SEEDED = "seeded";
+    private static final int LAST_CONTENT_LENGTH = 49;
+
+    /**
+     * 채팅방 모든 회원의 안 읽은 수 증가, 마지막 메세지 저장
+     * DB 값으로 초기화되지 않은 채팅방이면 -1 반환
+     * ARGV: 마지막 메세지, 시각, 채팅방 Id, 만료 시간(초)
+     */
+    private static final RedisScript<Long> MESSAGE = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], '" + SEEDED + "') == 0 then return -1 end " +
+                    "local count = 0 " +
+                    "for i, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+                    "if string.sub(field, 1, " + UNREAD_PREFIX.length() + ") == '" + UNREAD_PREFIX + "' then " +
+                    "redis.call('HINCRBY', KEYS[1], field, 1) " +
+                    "count = count + 1 " +
+                    "end " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], '" + LAST_CONTENT + "', ARGV[1]) " +
+                    "redis.call('HSET', KEYS[1], '" + LAST_MODIFIED + "', ARGV[2]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[3]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "return count", Long.class);
+
+    /**
+     * 회원의 안 읽은 수 초기화
+     * DB 값으로 초기화되지 않은 채팅방이면 -1 반환
+     * ARGV: 회원 Id, 채팅방 Id, 만료 시간(초)
+     */
+    private static final RedisScript<Long> READ = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], '" + SEEDED + "') == 0 then return -1 end " +
+                    "redis.call('HSET', KEYS[1], '" + UNREAD_PREFIX + "' .. ARGV[1], 0) " +
+                    "redis.call('SADD', KEYS[2], ARGV[2]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private final String ttlSeconds;
+
+    public ChatRoomCounter(StringRedisTemplate redisTemplate,
+                           ChatRoomUserQueryRepository chatRoomUserQueryRepository,
+                           @Value("${chat.counter.ttl-seconds:604800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomUserQueryRepository = chatRoomUserQueryRepository;
+        this.ttlSeconds = String.valueOf(ttlSeconds);
+    }
+
+    /**
+     * 채팅 전송 시 안 읽은 수 증가, 마지막 메세지 저장
+     *
+     * @param chatRoomId
+     * @param content
+     */
+    public void increaseUnread(Long chatRoomId, String content) {
+        String lastContent = content.length() >= 50 ? content.substring(0, LAST_CONTENT_LENGTH) : content;
+        List<String> keys = List.of(key(chatRoomId), DIRTY_KEY);
+        String now = String.valueOf(System.currentTimeMillis());
+        Long result = redisTemplate.execute(MESSAGE, keys, lastContent, now, String.valueOf(chatRoomId), ttlSeconds);
+        if (result != null && result < 0) {
+            seed(chatRoomId);
+            redisTemplate.execute(MESSAGE, keys, lastContent, now, String.valueOf(chatRoomId), ttlSeconds);
+        }
+    }
+
+    /**
+     * 채팅방 입장 시 읽음 처리
+     *
+     * @param chatRoomId
+     * @param userId
+     */
+    public void read(Long chatRoomId, Long userId) {
+        List<String> keys = List.of(key(chatRoomId), DIRTY_KEY);
+        Long result = redisTemplate.execute(READ, keys, String.valueOf(userId), String.valueOf(chatRoomId), ttlSeconds);
+        if (result != null && result < 0) {
+            seed(chatRoomId);
+            redisTemplate.execute(READ, keys, String.valueOf(userId), String.valueOf(chatRoomId), ttlSeconds);
+        }
+    }
+
+    /**
+     * 채팅방 목록에 Redis의 안 읽은 수, 마지막 메세지 반영 후 최근 메세지 순으로 정렬
+     *
+     * @param chatRooms
+     * @param userId
+     */
+    public void apply(List<ChatRoomListResponse> chatRooms, Long userId) {
+        if (chatRooms.isEmpty()) {
+            return;
+        }
+        List<Object> states = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ChatRoomListResponse chatRoom : chatRooms) {
+                stringConnection.hGetAll(key(chatRoom.getRoomId()));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < chatRooms.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> state = (Map<String, String>) states.get(i);
+            if (state == null || !state.containsKey(SEEDED)) {
+                continue;
+            }
+            ChatRoomListResponse chatRoom = chatRooms.get(i);
+            String unread = state.get(UNREAD_PREFIX + userId);
+            if (unread != null) {
+                chatRoom.setUnreadMessageNum(Integer.parseInt(unread));
+            }
+            if (state.containsKey(LAST_CONTENT)) {
+                chatRoom.setLastMessage(state.get(LAST_CONTENT));
+            }
+            if (state.containsKey(LAST_MODIFIED)) {
+                chatRoom.setUpdateTime(toLocalDateTime(Long.parseLong(state.get(LAST_MODIFIED))));
+            }
+        }
+        chatRooms.sort(Comparator.comparing(ChatRoomListResponse::getUpdateTime,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+    }
+
+    /**
+     * DB에 반영할 채팅방 Id 꺼내기
+     *
+     * @param limit
+     * @return 변경된 채팅방 Id 목록
+     */
+    public List<Long> popDirtyChatRoomIds(int limit) {
+        List<Long> chatRoomIds = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            String chatRoomId = redisTemplate.opsForSet().pop(DIRTY_KEY);
+            if (chatRoomId == null) {
+                break;
+            }
+            chatRoomIds.add(Long.valueOf(chatRoomId));
+        }
+        return chatRoomIds;
+    }
+
+    /**
+     * DB에 반영할 채팅방 Id 다시 기록
+     *
+     * @param chatRoomIds
+     */
+    public void markDirty(Collection<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, chatRoomIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+        public Map<String, String> getState(Long chatRoomId) {
+        return redisTemplate.<String, String>opsForHash().entries(key(chatRoomId));
+    }
+
+    /**
+     * DB 값으로 채팅방 해시 초기화 (Redis에 값이 없을 때만)
+     */
+    private void seed(Long chatRoomId) {
+        log.debug("[채팅방 카운터] DB 값으로 초기화. 채팅방 Id = {}", chatRoomId);
+        List<ChatRoomUser> roomUsers = chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(chatRoomId);
+        Map<String, String> fields = new HashMap<>();
+        for (ChatRoomUser roomUser : roomUsers) {
+            fields.put(UNREAD_PREFIX + roomUser.getUserId(), String.valueOf(roomUser.getUnreadCount()));
+        }
+        if (!roomUsers.isEmpty() && roomUsers.get(0).getLastContent() != null) {
+            fields.put(LAST_CONTENT, roomUsers.get(0).getLastContent());
+        }
+        String key = key(chatRoomId);
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            redisTemplate.opsForHash().putIfAbsent(key, field.getKey(), field.getValue());
+        }
+        redisTemplate.opsForHash().put(key, SEEDED, "1");
+        redisTemplate.expire(key, Duration.ofSeconds(Long.parseLong(ttlSeconds)));
+    }
+
+    private static String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
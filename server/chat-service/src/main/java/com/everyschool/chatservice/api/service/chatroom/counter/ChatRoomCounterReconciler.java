@@ -0,0 +1,56 @@
+package com.everyschool.chatservice.api.service.chatroom.counter;
+
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 채팅방 카운터를 chat_room_user 테이블에 주기적으로 반영
+ * 꺼낸 채팅방 Id는 트랜잭션이 커밋되지 않으면 dirty 집합에 다시 넣어 다음 주기에 반영함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomCounterReconciler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ChatRoomCounter chatRoomCounter;
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+
+    @Scheduled(fixedDelayString = "${chat.counter.flush-interval-ms:30000}")
+    @Transactional
+    public void reconcile() {
+        List<Long> chatRoomIds = chatRoomCounter.popDirtyChatRoomIds(BATCH_SIZE);
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("[채팅방 카운터] DB 반영 실패, 다음 주기에 다시 반영함. 채팅방 수 = {}", chatRoomIds.size());
+                    chatRoomCounter.markDirty(chatRoomIds);
+                }
+            }
+        });
+        for (Long chatRoomId : chatRoomIds) {
+            Map<String, String> state = chatRoomCounter.getState(chatRoomId);
+            String lastContent = state.get(ChatRoomCounter.LAST_CONTENT);
+            for (ChatRoomUser roomUser : chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(chatRoomId)) {
+                String unread = state.get(ChatRoomCounter.UNREAD_PREFIX + roomUser.getUserId());
+                roomUser.syncCounter(unread == null ? roomUser.getUnreadCount() : Integer.parseInt(unread), lastContent);
+            }
+        }
+        log.debug("[채팅방 카운터] DB 반영. 채팅방 수 = {}", chatRoomIds.size());
+    }
+}
@@ -0,0 +1,21 @@
+package com.everyschool.chatservice.api.service.chatroom.executor;
+
+/**
+ * 채팅방 작업 결과를 기다리는 시간 초과
+ * started가 false면 작업을 취소해서 실행되지 않았고, true면 이미 시작해서 처리되었을 수 있음
+ */
+public class ChatRoomCallTimeoutException extends IllegalStateException {
+
+    private final boolean started;
+
+    public ChatRoomCallTimeoutException(boolean started) {
+        super(started
+                ? "채팅방 작업이 시간 안에 끝나지 않았습니다. 이미 처리되었을 수 있습니다."
+                : "채팅방 작업 대기 시간이 초과되어 실행하지 않았습니다.");
+        this.started = started;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+}
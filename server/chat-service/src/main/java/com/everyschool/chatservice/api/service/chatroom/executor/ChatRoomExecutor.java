@@ -0,0 +1,186 @@
+package com.everyschool.chatservice.api.service.chatroom.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 단일 실행
+ * 채팅방마다 메일박스를 하나씩 두고, 메일박스마다 한 번에 한 스레드만 작업을 실행함
+ * 같은 채팅방 작업은 요청 순서대로 하나씩 실행되고, 다른 채팅방 작업은 pool-size 개 스레드에서 동시에 실행됨
+ * 작업이 DB, Redis 호출로 스레드를 붙잡고 있으므로 pool-size는 CPU 코어 수가 아니라 동시에 처리할 채팅방 수 기준으로 정함
+ * 한 메일박스가 스레드를 오래 붙잡지 않도록 throughput 개를 실행하면 스레드를 양보하고, 비어 있는 메일박스는 지움
+ */
+@Component
+@Slf4j
+public class ChatRoomExecutor {
+
+    private static final int THROUGHPUT = 32;
+
+    private final ThreadPoolExecutor workers;
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final long callTimeoutMillis;
+
+    public ChatRoomExecutor(@Value("${chat.room-executor.pool-size:64}") int poolSize,
+                            @Value("${chat.room-executor.call-timeout-ms:3000}") long callTimeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-room-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.callTimeoutMillis = callTimeoutMillis;
+    }
+
+    /**
+     * 채팅방 작업 등록
+     *
+     * @param chatRoomId
+     * @param task
+     */
+    public void execute(Long chatRoomId, Runnable task) {
+        mailboxes.compute(chatRoomId, (id, mailbox) -> {
+            Mailbox target = mailbox == null ? new Mailbox(id) : mailbox;
+            target.tasks.add(task);
+            if (target.pending.getAndIncrement() == 0) {
+                workers.execute(target);
+            }
+            return target;
+        });
+    }
+
+    /**
+     * 채팅방 작업 등록 후 결과 반환
+     * 실행 전에 결과가 취소되면 작업을 실행하지 않음
+     *
+     * @param chatRoomId
+     * @param task
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(Long chatRoomId, Supplier<T> task) {
+        return submit(chatRoomId, task, new AtomicBoolean());
+    }
+
+    /**
+     * started를 먼저 true로 바꾼 쪽만 작업을 실행하거나 취소할 수 있음
+     */
+    private <T> CompletableFuture<T> submit(Long chatRoomId, Supplier<T> task, AtomicBoolean started) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(chatRoomId, () -> {
+            if (result.isDone() || !started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 채팅방 작업을 실행하고 call-timeout 동안 끝날 때까지 기다림
+     * 작업에서 발생한 예외는 그대로 다시 던지고, 시간 안에 시작하지 못한 작업은 취소함
+     * 이미 시작한 작업은 취소할 수 없으므로 call-timeout 만큼 더 기다리고, 그래도 끝나지 않으면 처리되었을 수 있다고 알림
+     *
+     * @param chatRoomId
+     * @param task
+     * @return 작업 결과
+     * @throws ChatRoomCallTimeoutException 기다리는 시간이 초과된 경우
+     */
+    public <T> T call(Long chatRoomId, Supplier<T> task) {
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<T> result = submit(chatRoomId, task, started);
+        try {
+            try {
+                return result.get(callTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (started.compareAndSet(false, true)) {
+                    result.cancel(false);
+                    throw new ChatRoomCallTimeoutException(false);
+                }
+            }
+            return result.get(callTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ChatRoomCallTimeoutException(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (started.compareAndSet(false, true)) {
+                result.cancel(false);
+            }
+            throw new IllegalStateException("채팅방 작업 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 채팅방 작업 큐와 대기 작업 수
+     * 대기 작업 수가 0에서 1이 된 스레드만 메일박스를 실행하므로 한 메일박스는 동시에 한 스레드에서만 실행됨
+     * 대기 작업 수 변경과 메일박스 삭제는 mailboxes.compute 안에서만 하므로 삭제 중인 메일박스에 작업이 들어가지 않음
+     */
+    private class Mailbox implements Runnable {
+
+        private final Long chatRoomId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        Mailbox(Long chatRoomId) {
+            this.chatRoomId = chatRoomId;
+        }
+
+        @Override
+        public void run() {
+            int processed = 0;
+            boolean remaining = true;
+            try {
+                while (remaining && processed < THROUGHPUT) {
+                    Runnable task = tasks.poll();
+                    try {
+                        task.run();
+                    } catch (Throwable e) {
+                        log.warn("[채팅방 실행] 작업 실패. 채팅방 Id = {}", chatRoomId, e);
+                    } finally {
+                        processed++;
+                        remaining = release();
+                    }
+                }
+            } finally {
+                if (remaining) {
+                    workers.execute(this);
+                }
+            }
+        }
+
+        /**
+         * 실행한 작업 하나를 대기 작업 수에서 빼고, 남은 작업이 없으면 메일박스 삭제
+         *
+         * @return 남은 작업이 있으면 true
+         */
+        private boolean release() {
+            Mailbox current = mailboxes.compute(chatRoomId, (id, mailbox) -> pending.decrementAndGet() == 0 ? null : mailbox);
+            return current != null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.everyschool.chatservice.api.service.chatroom.lookup;
+
+import com.everyschool.chatservice.api.client.SchoolServiceClient;
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.SchoolClassInfo;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 동안 사용하는 원격 조회
+ * 같은 인자로 조회하면 처음 요청한 결과를 재사용하고, 서로 다른 조회는 동시에 실행함
+ * ChatRoomLookups.open()으로 요청마다 새로 생성해서 사용
+ */
+public class ChatRoomLookup {
+
+    private final UserServiceClient userServiceClient;
+    private final SchoolServiceClient schoolServiceClient;
+    private final Executor executor;
+
+    private final Map<List<Object>, CompletableFuture<?>> results = new ConcurrentHashMap<>();
+
+    ChatRoomLookup(UserServiceClient userServiceClient, SchoolServiceClient schoolServiceClient, Executor executor) {
+        this.userServiceClient = userServiceClient;
+        this.schoolServiceClient = schoolServiceClient;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<UserInfo> searchUserInfo(String token) {
+        return lookup(() -> userServiceClient.searchUserInfo(token), "searchUserInfo", token);
+    }
+
+    public CompletableFuture<UserInfo> searchUserInfoByUserKey(String userKey) {
+        return lookup(() -> userServiceClient.searchUserInfoByUserKey(userKey), "searchUserInfoByUserKey", userKey);
+    }
+
+    public CompletableFuture<String> searchUsername(Long schoolClassId, Long parentId) {
+        return lookup(() -> userServiceClient.searchUsername(schoolClassId, parentId), "searchUsername", schoolClassId, parentId);
+    }
+
+    public CompletableFuture<SchoolClassInfo> searchSchoolClassInfo(Long schoolClassId) {
+        return lookup(() -> schoolServiceClient.searchSchoolClassInfo(schoolClassId), "searchSchoolClassInfo", schoolClassId);
+    }
+
+    /**
+     * 조회 결과 기다리기
+     * 원격 호출에서 발생한 예외는 그대로 다시 던짐
+     *
+     * @param future
+     * @return 조회 결과
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> lookup(Supplier<T> call, Object... key) {
+        return (CompletableFuture<T>) results.computeIfAbsent(Arrays.asList(key),
+                k -> CompletableFuture.supplyAsync(call, executor));
+    }
+}
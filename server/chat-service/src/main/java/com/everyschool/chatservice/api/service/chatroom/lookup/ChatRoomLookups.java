@@ -0,0 +1,51 @@
+package com.everyschool.chatservice.api.service.chatroom.lookup;
+
+import com.everyschool.chatservice.api.client.SchoolServiceClient;
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방 원격 조회 생성
+ * 원격 호출은 크기가 정해진 스레드 풀에서 실행하고, 풀이 가득 차면 요청 스레드에서 직접 실행함
+ */
+@Component
+public class ChatRoomLookups {
+
+    private final UserServiceClient userServiceClient;
+    private final SchoolServiceClient schoolServiceClient;
+    private final ThreadPoolExecutor executor;
+
+    public ChatRoomLookups(UserServiceClient userServiceClient,
+                           SchoolServiceClient schoolServiceClient,
+                           @Value("${chat.remote-lookup.pool-size:8}") int poolSize,
+                           @Value("${chat.remote-lookup.queue-capacity:100}") int queueCapacity) {
+        this.userServiceClient = userServiceClient;
+        this.schoolServiceClient = schoolServiceClient;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-room-lookup-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public ChatRoomLookup open() {
+        return new ChatRoomLookup(userServiceClient, schoolServiceClient, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,145 @@
+package com.everyschool.chatservice.api.service.chatroom.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 접속자 관리
+ * 채팅방마다 (회원 Id, 만료 시각) 정렬 집합을 두고 Lua 스크립트로 입장/퇴장/인원 조회를 한 번에 처리함
+ * 접속자는 STOMP heartbeat로 만료 시각을 갱신하며, 갱신이 끊기면 ttl 이후 자동으로 빠짐
+ */
+@Component
+@Slf4j
+public class ChatRoomPresence {
+
+    public static final String KEY_PREFIX = "CHAT_ROOM_PRESENCE_";
+
+    /**
+     * 만료된 접속자 정리 후 입장, 인원수 반환
+     * ARGV: 회원 Id, 현재 시각, 만료 시각, ttl
+     */
+    private static final RedisScript<Long> JOIN = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+                    "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+                    "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    /**
+     * 퇴장 후 인원수 반환, 남은 인원이 없으면 키 삭제
+     * ARGV: 회원 Id, 현재 시각
+     */
+    private static final RedisScript<Long> LEAVE = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+                    "local size = redis.call('ZCARD', KEYS[1]) " +
+                    "if size == 0 then redis.call('DEL', KEYS[1]) end " +
+                    "return size", Long.class);
+
+    /**
+     * 만료된 접속자 정리 후 인원수 반환
+     * ARGV: 현재 시각
+     */
+    private static final RedisScript<Long> COUNT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+                    "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    /**
+     * 이미 접속 중인 채팅방들의 만료 시각 갱신
+     * ARGV: 회원 Id, 만료 시각, ttl
+     */
+    private static final RedisScript<Long> REFRESH = new DefaultRedisScript<>(
+            "local refreshed = 0 " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "if redis.call('ZSCORE', key, ARGV[1]) then " +
+                    "redis.call('ZADD', key, ARGV[2], ARGV[1]) " +
+                    "redis.call('PEXPIRE', key, ARGV[3]) " +
+                    "refreshed = refreshed + 1 " +
+                    "end " +
+                    "end " +
+                    "return refreshed", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    public ChatRoomPresence(StringRedisTemplate redisTemplate,
+                            @Value("${chat.presence.ttl-ms:30000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 채팅방 입장
+     *
+     * @param chatRoomId
+     * @param userId
+     * @return 입장 후 채팅방 인원수
+     */
+    public long join(Long chatRoomId, Long userId) {
+        long now = System.currentTimeMillis();
+        Long size = redisTemplate.execute(JOIN, Collections.singletonList(key(chatRoomId)),
+                String.valueOf(userId), String.valueOf(now), String.valueOf(now + ttlMillis), String.valueOf(ttlMillis));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 채팅방 퇴장
+     *
+     * @param chatRoomId
+     * @param userId
+     * @return 퇴장 후 채팅방 인원수
+     */
+    public long leave(Long chatRoomId, Long userId) {
+        Long size = redisTemplate.execute(LEAVE, Collections.singletonList(key(chatRoomId)),
+                String.valueOf(userId), now());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 채팅방 현재 인원수
+     *
+     * @param chatRoomId
+     * @return 만료되지 않은 접속자 수
+     */
+    public long count(Long chatRoomId) {
+        Long size = redisTemplate.execute(COUNT, Collections.singletonList(key(chatRoomId)), now());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 접속 중인 채팅방들의 만료 시각 갱신 (heartbeat)
+     *
+     * @param chatRoomIds
+     * @param userId
+     */
+    public void refresh(Collection<Long> chatRoomIds, Long userId) {
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = chatRoomIds.stream()
+                .map(ChatRoomPresence::key)
+                .collect(Collectors.toList());
+        long expireAt = System.currentTimeMillis() + ttlMillis;
+        redisTemplate.execute(REFRESH, keys, String.valueOf(userId), String.valueOf(expireAt), String.valueOf(ttlMillis));
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    private static String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private static String now() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+}
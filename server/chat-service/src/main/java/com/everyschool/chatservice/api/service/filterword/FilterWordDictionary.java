@@ -0,0 +1,61 @@
+package com.everyschool.chatservice.api.service.filterword;
+
+import com.everyschool.chatservice.api.service.filterword.event.FilterWordChangedEvent;
+import com.everyschool.chatservice.domain.filterword.FilterWord;
+import com.everyschool.chatservice.domain.filterword.repository.FilterWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에 올려둔 필터 단어 매처
+ * 필터 단어가 변경되면 새 매처를 만들어 통째로 교체함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FilterWordDictionary {
+
+    private final FilterWordRepository filterWordRepository;
+
+    private volatile FilterWordMatcher matcher;
+
+    /**
+     * 메세지에 포함된 필터 단어 모두 찾기
+     *
+     * @param message
+     * @return 포함된 필터 단어 목록
+     */
+    public List<String> findAll(String message) {
+        FilterWordMatcher current = matcher;
+        if (current == null) {
+            current = reload();
+        }
+        return current.findAll(message);
+    }
+
+    /**
+     * 필터 단어 변경 이벤트 수신 시 매처 재생성
+     *
+     * @param event
+     */
+    @EventListener
+    public void onFilterWordChanged(FilterWordChangedEvent event) {
+        log.debug("[필터 단어] 변경 이벤트 수신. origin = {}", event.getOriginService());
+        reload();
+    }
+
+    public synchronized FilterWordMatcher reload() {
+        List<String> words = filterWordRepository.findAll().stream()
+                .map(FilterWord::getWord)
+                .collect(Collectors.toList());
+        FilterWordMatcher rebuilt = FilterWordMatcher.of(words);
+        matcher = rebuilt;
+        log.debug("[필터 단어] 매처 재생성. 단어 수 = {}", rebuilt.size());
+        return rebuilt;
+    }
+}
@@ -0,0 +1,121 @@
+package com.everyschool.chatservice.api.service.filterword;
+
+import java.util.*;
+
+/**
+ * 필터 단어 다중 패턴 매칭 (Aho-Corasick)
+ * 한 번 생성되면 변경되지 않으므로 여러 스레드에서 동시에 사용 가능
+ */
+public class FilterWordMatcher {
+
+    private static final FilterWordMatcher EMPTY = new FilterWordMatcher(Collections.emptyList());
+
+    private final List<String> words;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private FilterWordMatcher(List<String> words) {
+        this.words = words;
+
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int wordIndex = 0; wordIndex < words.size(); wordIndex++) {
+            int node = 0;
+            for (char c : words.get(wordIndex).toCharArray()) {
+                Integer next = transitions.get(node).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(node).put(c, next);
+                    transitions.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(wordIndex);
+        }
+
+        this.failure = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> entry : transitions.get(node).entrySet()) {
+                int child = entry.getValue();
+                int fallback = failure[node];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(entry.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(entry.getKey());
+                failure[child] = (target == null || target == child) ? 0 : target;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        this.outputs = new int[nodeOutputs.size()][];
+        for (int node = 0; node < nodeOutputs.size(); node++) {
+            this.outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 필터 단어 목록으로 매처 생성
+     * 빈 단어와 중복 단어는 제외
+     *
+     * @param words 필터 단어 목록
+     * @return 생성된 매처
+     */
+    public static FilterWordMatcher of(Collection<String> words) {
+        List<String> distinctWords = new ArrayList<>(new LinkedHashSet<>(words));
+        distinctWords.removeIf(word -> word == null || word.isEmpty());
+        if (distinctWords.isEmpty()) {
+            return EMPTY;
+        }
+        return new FilterWordMatcher(distinctWords);
+    }
+
+    /**
+     * 메세지에 포함된 필터 단어를 한 번의 탐색으로 모두 찾기
+     *
+     * @param message 검사할 메세지
+     * @return 포함된 필터 단어 목록 (등록 순서)
+     */
+    public List<String> findAll(String message) {
+        if (words.isEmpty() || message == null || message.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        boolean[] matched = new boolean[words.size()];
+        int matchedCount = 0;
+        int node = 0;
+        for (int i = 0; i < message.length() && matchedCount < words.size(); i++) {
+            char c = message.charAt(i);
+            Integer next = transitions.get(node).get(c);
+            while (next == null && node != 0) {
+                node = failure[node];
+                next = transitions.get(node).get(c);
+            }
+            node = next == null ? 0 : next;
+            for (int wordIndex : outputs[node]) {
+                if (!matched[wordIndex]) {
+                    matched[wordIndex] = true;
+                    matchedCount++;
+                }
+            }
+        }
+
+        List<String> result = new ArrayList<>(matchedCount);
+        for (int wordIndex = 0; wordIndex < matched.length; wordIndex++) {
+            if (matched[wordIndex]) {
+                result.add(words.get(wordIndex));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return words.size();
+    }
+}
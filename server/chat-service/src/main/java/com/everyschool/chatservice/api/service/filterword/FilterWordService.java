@@ -5,19 +5,22 @@ import com.everyschool.chatservice.api.client.response.UserInfo;
 import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
 import com.everyschool.chatservice.api.controller.filterword.response.ChatFilterResponse;
 import com.everyschool.chatservice.api.service.SequenceGeneratorService;
+import com.everyschool.chatservice.api.service.chat.recent.ChatRecentWindow;
+import com.everyschool.chatservice.api.service.chat.writebehind.ChatWriteBehindService;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
 import com.everyschool.chatservice.api.service.filterword.dto.CreateFilterWordDto;
+import com.everyschool.chatservice.api.service.filterword.event.FilterWordChangedEvent;
 import com.everyschool.chatservice.domain.chat.Chat;
 import com.everyschool.chatservice.domain.chat.ChatStatus;
-import com.everyschool.chatservice.domain.chat.repository.ChatRepository;
-import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
-import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
-import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserRepository;
 import com.everyschool.chatservice.domain.filterword.FilterWord;
 import com.everyschool.chatservice.domain.filterword.Reason;
 import com.everyschool.chatservice.domain.filterword.repository.FilterWordRepository;
 import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,15 +34,22 @@ import java.util.List;
 public class FilterWordService {
 
     private final FilterWordRepository filterWordRepository;
-    private final ChatRepository chatRepository;
-    private final ChatRoomUserRepository chatRoomUserRepository;
-    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final ChatRecentWindow chatRecentWindow;
+    private final ChatRoomCounter chatRoomCounter;
     private final ReasonRepository reasonRepository;
 
     private final SequenceGeneratorService sequenceGeneratorService;
 
     private final UserServiceClient userServiceClient;
 
+    private final FilterWordDictionary filterWordDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Destination.Factory destinationFactory;
+
+    @Value("${spring.cloud.bus.id:application}")
+    private String busId;
+
     /**
      * 필터 단어 등록
      *
@@ -53,6 +63,7 @@ public class FilterWordService {
         }
 
         FilterWord saved = saveFilterWord(dto);
+        eventPublisher.publishEvent(new FilterWordChangedEvent(this, busId, destinationFactory.getDestination(null)));
         return saved.getId();
     }
 
@@ -69,11 +80,12 @@ public class FilterWordService {
         ChatStatus chatStatus = isBadChat(message, reasons);
 
         Chat chat = saveChat(message, senderUserInfo, chatStatus.getCode());
-        List<ChatRoomUser> roomUsers = chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(message.getChatRoomId());
 
+        if (chatStatus != ChatStatus.BAD) {
+            chatRecentWindow.add(chat);
+        }
         if (chatStatus == ChatStatus.PLANE) {
-            roomUsers.get(0).updateUpdateChat(message.getMessage());
-            roomUsers.get(1).updateUpdateChat(message.getMessage());
+            chatRoomCounter.increaseUnread(message.getChatRoomId(), message.getMessage());
         }
 
         return getFilterResultResponse(reasons, chatStatus, chat);
@@ -87,7 +99,7 @@ public class FilterWordService {
                 .status(status)
                 .chatRoomId(message.getChatRoomId())
                 .build();
-        return chatRepository.save(chat);
+        return chatWriteBehindService.write(chat);
     }
 
     private ChatFilterResponse getFilterResultResponse(List<String> reasons, ChatStatus chatStatus, Chat chat) {
@@ -96,33 +108,27 @@ public class FilterWordService {
                 .reason("")
                 .build();
         if (chatStatus == ChatStatus.BAD) {
-            for (String reason : reasons) {
-                saveReason(reason, chat.getId());
-            }
+            saveReasons(reasons, chat.getId());
             response.setReason("비속어가 포함되어 있습니다.");
             response.setIsBad(true);
         }
         return response;
     }
 
-    public void saveReason(String reason, Long chatId) {
-        Reason filterReason = Reason.builder()
-                .chatId(chatId)
-                .filterReason(reason)
-                .build();
-        reasonRepository.save(filterReason);
+    private void saveReasons(List<String> reasons, Long chatId) {
+        List<Reason> filterReasons = new ArrayList<>();
+        for (String reason : reasons) {
+            filterReasons.add(Reason.builder()
+                    .chatId(chatId)
+                    .filterReason(reason)
+                    .build());
+        }
+        reasonRepository.saveAll(filterReasons);
     }
 
     private ChatStatus isBadChat(ChatMessage message, List<String> reasons) {
-        boolean isBad = false;
-        List<FilterWord> filters = filterWordRepository.findAll();
-        for (FilterWord filter : filters) {
-            if (message.getMessage().contains(filter.getWord())) {
-                reasons.add(filter.getWord());
-                isBad = true;
-            }
-        }
-        if (isBad) {
+        reasons.addAll(filterWordDictionary.findAll(message.getMessage()));
+        if (!reasons.isEmpty()) {
             return ChatStatus.BAD;
         }
         return ChatStatus.PLANE;
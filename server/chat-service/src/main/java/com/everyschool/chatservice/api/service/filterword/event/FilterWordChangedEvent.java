@@ -0,0 +1,20 @@
+package com.everyschool.chatservice.api.service.filterword.event;
+
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * 필터 단어 변경 이벤트
+ * Spring Cloud Bus로 다른 채팅 서버에도 전달되어 필터 매처를 다시 생성함
+ */
+public class FilterWordChangedEvent extends RemoteApplicationEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    protected FilterWordChangedEvent() {
+    }
+
+    public FilterWordChangedEvent(Object source, String originService, Destination destination) {
+        super(source, originService, destination);
+    }
+}
@@ -0,0 +1,48 @@
+package com.everyschool.chatservice.config;
+
+import com.everyschool.chatservice.api.service.chat.broker.ChatRoomMessagePublisher;
+import com.everyschool.chatservice.api.service.chat.broker.RedisChatRoomMessagePublisher;
+import com.everyschool.chatservice.api.service.chat.broker.SimpleChatRoomMessagePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+/**
+ * 채팅방 메세지 전달 방식 설정
+ * chat.broker.mode=simple : 같은 서버 구독자에게만 전달 (기본값)
+ * chat.broker.mode=redis : Redis pub/sub으로 모든 채팅 서버에 전달
+ */
+@Configuration
+public class ChatBrokerConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+    public ChatRoomMessagePublisher simpleChatRoomMessagePublisher(SimpMessageSendingOperations template) {
+        return new SimpleChatRoomMessagePublisher(template);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    static class RedisBrokerConfig {
+
+        @Bean
+        public RedisMessageListenerContainer chatRoomListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public ChatRoomMessagePublisher redisChatRoomMessagePublisher(StringRedisTemplate redisTemplate,
+                                                                      RedisMessageListenerContainer chatRoomListenerContainer,
+                                                                      SimpMessageSendingOperations template,
+                                                                      ObjectMapper objectMapper) {
+            return new RedisChatRoomMessagePublisher(redisTemplate, chatRoomListenerContainer, template, objectMapper);
+        }
+    }
+}
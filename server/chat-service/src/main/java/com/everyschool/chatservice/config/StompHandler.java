@@ -1,27 +1,34 @@
 package com.everyschool.chatservice.config;
 
-import com.everyschool.chatservice.api.client.UserServiceClient;
-import com.everyschool.chatservice.api.client.response.UserInfo;
 import com.everyschool.chatservice.api.service.chatroom.ChatRoomService;
+import com.everyschool.chatservice.config.auth.StompAuthenticator;
+import com.everyschool.chatservice.config.auth.StompUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String SESSION_USER_ID = "userId";
+    private static final String SESSION_CHAT_ROOM_IDS = "chatRoomIds";
+
     public final ChatRoomService chatRoomService;
-    public final UserServiceClient userServiceClient;
+    public final StompAuthenticator stompAuthenticator;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -33,9 +40,16 @@ public class StompHandler implements ChannelInterceptor {
     }
 
     private void handleMessage(StompCommand command, StompHeaderAccessor accessor, MessageHeaders headers) {
+        if (command == null) {
+            if (accessor.getMessageType() == SimpMessageType.HEARTBEAT) {
+                keepAlive(accessor);
+            }
+            return;
+        }
         switch (command) {
             case CONNECT:
                 log.debug("[소켓] CONNECT");
+                authenticate(accessor);
                 break;
             case SUBSCRIBE:
                 log.debug("[소켓] SUBSCRIBE");
@@ -46,24 +60,92 @@ public class StompHandler implements ChannelInterceptor {
             case SEND:
                 log.debug("[소켓] SEND");
                 log.debug("[소켓] 메세지 맵핑 주소 = {}", accessor.getDestination());
+                requireUser(accessor);
                 break;
             case DISCONNECT:
                 log.debug("[소켓] DISCONNECT");
+                leaveChatRooms(accessor);
                 break;
         }
     }
 
+    /**
+     * CONNECT에서 토큰을 확인하고 세션에 사용자 저장
+     * CONNECT에 토큰이 없는 클라이언트는 첫 SUBSCRIBE에서 확인함
+     */
+    private void authenticate(StompHeaderAccessor accessor) {
+        String jwt = accessor.getFirstNativeHeader("Authorization");
+        if (jwt == null) {
+            return;
+        }
+        StompUser user = stompAuthenticator.authenticate(jwt);
+        rememberUser(accessor, user);
+        log.debug("[소켓 인증] 회원 이름 = {}", user.getUserName());
+    }
+
     private Long connectToChatRoom(StompHeaderAccessor accessor, MessageHeaders headers) {
         Long chatRoomId = getChatRoomNo(headers);
         log.debug("[소켓 연결] 채팅방 번호 = {}", chatRoomId);
-        String jwt = accessor.getFirstNativeHeader("Authorization");
-        log.debug("[소켓 연결] jwt = {}", jwt);
-        UserInfo userInfo = userServiceClient.searchUserInfo(jwt);
-        log.debug("[소켓 연결] 회원 이름 = {}", userInfo.getUserName());
-        chatRoomService.connectChatRoom(chatRoomId, userInfo.getUserId());
+        StompUser user = requireUser(accessor);
+        log.debug("[소켓 연결] 회원 이름 = {}", user.getUserName());
+        chatRoomService.connectChatRoom(chatRoomId, user.getUserId());
+        rememberChatRoom(accessor, chatRoomId);
         return chatRoomId;
     }
 
+    /**
+     * 세션 사용자 확인
+     * 세션에 사용자가 없으면 프레임의 토큰으로 확인하고, 토큰이 없거나 유효하지 않으면 프레임을 거부함
+     */
+    private StompUser requireUser(StompHeaderAccessor accessor) {
+        StompUser user = StompUser.from(accessor.getSessionAttributes());
+        if (user == null) {
+            user = stompAuthenticator.authenticate(accessor.getFirstNativeHeader("Authorization"));
+            rememberUser(accessor, user);
+        }
+        return user;
+    }
+
+    private void rememberUser(StompHeaderAccessor accessor, StompUser user) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return;
+        }
+        user.saveTo(attributes);
+        attributes.put(SESSION_USER_ID, user.getUserId());
+    }
+
+    private void rememberChatRoom(StompHeaderAccessor accessor, Long chatRoomId) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return;
+        }
+        getChatRoomIds(attributes).add(chatRoomId);
+    }
+
+    private void keepAlive(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !attributes.containsKey(SESSION_USER_ID)) {
+            return;
+        }
+        chatRoomService.keepAlive(getChatRoomIds(attributes), (Long) attributes.get(SESSION_USER_ID));
+    }
+
+    private void leaveChatRooms(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !attributes.containsKey(SESSION_USER_ID)) {
+            return;
+        }
+        Set<Long> chatRoomIds = getChatRoomIds(attributes);
+        chatRoomService.leaveChatRooms(chatRoomIds, (Long) attributes.get(SESSION_USER_ID));
+        chatRoomIds.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> getChatRoomIds(Map<String, Object> attributes) {
+        return (Set<Long>) attributes.computeIfAbsent(SESSION_CHAT_ROOM_IDS, key -> ConcurrentHashMap.newKeySet());
+    }
+
     private String getRoomId(String destination) {
         int lastIndex = destination.lastIndexOf('/');
         if (lastIndex != -1) {
@@ -1,9 +1,14 @@
 package com.everyschool.chatservice.config;
 
+import com.everyschool.chatservice.config.outbound.OutboundBackpressure;
+import com.everyschool.chatservice.config.ratelimit.SendRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -15,31 +20,63 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 public class WebSocketBrokerConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final SendRateLimitInterceptor sendRateLimitInterceptor;
+    private final OutboundBackpressure outboundBackpressure;
+
+    @Value("${chat.presence.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    @Value("${chat.outbound.send-time-limit-ms:10000}")
+    private long sendTimeLimitMillis;
+
+    @Value("${chat.outbound.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
 
     /**
      * @param registry
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        registry.enableSimpleBroker("/sub")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(heartbeatScheduler());
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    private TaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("wss-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/chat-service/v1/chat")
                 .setAllowedOrigins("*");
     }
 
+    /**
+     * 전송 한도 검사를 먼저 해서 한도를 넘은 메세지는 StompHandler와 서비스 코드를 거치지 않음
+     *
+     * @param registration
+     */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        registration.interceptors(sendRateLimitInterceptor, stompHandler);
     }
 
+    /**
+     * 송신은 세션별 송신 큐(OutboundBackpressure)가 처리하므로 Spring 송신 버퍼는 큐 한도만큼만 둠
+     *
+     * @param registry
+     */
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
         registry.setMessageSizeLimit(160 * 64 * 1024);
-        registry.setSendTimeLimit(100 * 10000);
-        registry.setSendBufferSizeLimit(3 * 512 * 1024);
+        registry.setSendTimeLimit((int) sendTimeLimitMillis);
+        registry.setSendBufferSizeLimit(bufferSizeLimit);
+        registry.addDecoratorFactory(outboundBackpressure);
     }
 }
@@ -0,0 +1,122 @@
+package com.everyschool.chatservice.config.auth;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소켓 연결 사용자 확인
+ * JWT 서명과 만료를 token.secret으로 직접 검증해서 회원 키를 얻고, 회원 키별 회원 정보는 user-cache-ttl 동안 재사용함
+ * 캐시가 user-cache-max-size 를 넘으면 자주 쓰지 않는 회원 정보부터 지움
+ * token.secret이 없으면 이전처럼 user-service에 토큰을 보내 확인하고, 확인된 토큰에서 회원 키를 읽음
+ */
+@Component
+@Slf4j
+public class StompAuthenticator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final UserServiceClient userServiceClient;
+    private final JwtParser jwtParser;
+    private final Cache<String, UserInfo> users;
+
+    @Autowired
+    public StompAuthenticator(UserServiceClient userServiceClient,
+                              @Value("${token.secret:}") String secret,
+                              @Value("${chat.stomp-auth.user-cache-ttl-ms:600000}") long userCacheTtlMillis,
+                              @Value("${chat.stomp-auth.user-cache-max-size:10000}") int userCacheMaxSize) {
+        this(userServiceClient, secret, userCacheTtlMillis, userCacheMaxSize, Ticker.systemTicker());
+    }
+
+    StompAuthenticator(UserServiceClient userServiceClient, String secret, long userCacheTtlMillis, int userCacheMaxSize, Ticker ticker) {
+        this.userServiceClient = userServiceClient;
+        this.jwtParser = StringUtils.hasText(secret)
+                ? Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret))).build()
+                : null;
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(userCacheTtlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(userCacheMaxSize)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+        if (jwtParser == null) {
+            log.warn("[소켓 인증] token.secret이 없어 user-service로 토큰을 확인함");
+        }
+    }
+
+    /**
+     * 토큰으로 사용자 확인
+     *
+     * @param authorization Authorization 헤더 값
+     * @return 확인된 사용자
+     */
+    public StompUser authenticate(String authorization) {
+        if (!StringUtils.hasText(authorization)) {
+            throw new IllegalArgumentException("인증 토큰이 없습니다.");
+        }
+        if (jwtParser == null) {
+            UserInfo userInfo = userServiceClient.searchUserInfo(authorization);
+            return StompUser.of(readUserKey(authorization), userInfo);
+        }
+
+        String userKey = parseUserKey(authorization);
+        return StompUser.of(userKey, searchUserInfo(userKey));
+    }
+
+    private String parseUserKey(String authorization) {
+        String token = authorization.replace("Bearer", "").trim();
+        try {
+            String userKey = jwtParser.parseClaimsJws(token).getBody().getSubject();
+            if (!StringUtils.hasText(userKey)) {
+                throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+            }
+            return userKey;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("[소켓 인증] 토큰 검증 실패. {}", e.getMessage());
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    /**
+     * user-service가 확인한 토큰에서 회원 키(subject)만 읽음
+     * 서명은 user-service가 이미 확인했으므로 다시 검증하지 않음
+     */
+    private static String readUserKey(String authorization) {
+        String[] parts = authorization.replace("Bearer", "").trim().split("\\.");
+        try {
+            String userKey = parts.length < 2 ? null
+                    : OBJECT_MAPPER.readTree(Decoders.BASE64URL.decode(parts[1])).path("sub").asText(null);
+            if (StringUtils.hasText(userKey)) {
+                return userKey;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("[소켓 인증] 토큰에서 회원 키 읽기 실패. {}", e.getMessage());
+        }
+        throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+    }
+
+    private UserInfo searchUserInfo(String userKey) {
+        return users.get(userKey, userServiceClient::searchUserInfoByUserKey);
+    }
+
+    long getCachedUserCount() {
+        users.cleanUp();
+        return users.estimatedSize();
+    }
+}
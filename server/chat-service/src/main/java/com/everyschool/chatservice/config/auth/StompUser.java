@@ -0,0 +1,58 @@
+package com.everyschool.chatservice.config.auth;
+
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 소켓 세션 사용자
+ * CONNECT에서 한 번 확인한 뒤 세션 속성에 저장하고, 이후 SUBSCRIBE/SEND 프레임에서 다시 사용함
+ */
+@Getter
+public class StompUser {
+
+    private static final String SESSION_ATTRIBUTE = "stompUser";
+
+    private final String userKey;
+    private final Long userId;
+    private final String userName;
+    private final char userType;
+
+    @Builder
+    private StompUser(String userKey, Long userId, String userName, char userType) {
+        this.userKey = userKey;
+        this.userId = userId;
+        this.userName = userName;
+        this.userType = userType;
+    }
+
+    public static StompUser of(String userKey, UserInfo userInfo) {
+        return StompUser.builder()
+                .userKey(userKey)
+                .userId(userInfo.getUserId())
+                .userName(userInfo.getUserName())
+                .userType(userInfo.getUserType())
+                .build();
+    }
+
+    /**
+     * 세션에 저장된 사용자
+     *
+     * @param sessionAttributes
+     * @return 저장된 사용자, 없으면 null
+     */
+    public static StompUser from(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        return (StompUser) sessionAttributes.get(SESSION_ATTRIBUTE);
+    }
+
+    public void saveTo(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes != null) {
+            sessionAttributes.put(SESSION_ATTRIBUTE, this);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.everyschool.chatservice.config.outbound;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 크기가 정해진 송신 큐
+ * 메세지는 큐에 넣고 바로 반환하므로 느린 클라이언트가 브로커 스레드를 붙잡지 않음
+ * 큐가 가득 차면 heartbeat부터 버리고, 그래도 부족하면 세션을 SLOW_CONSUMER(4008)로 종료함
+ * 종료된 클라이언트는 재접속 후 채팅방별로 마지막으로 받은 채팅 Id를 채팅 동기화 API(POST /chat-service/v1/chat-rooms/sync)에 보내서 놓친 채팅을 받음
+ */
+@Slf4j
+public class BoundedOutboundSession extends WebSocketSessionDecorator {
+
+    public static final CloseStatus SLOW_CONSUMER = new CloseStatus(4008, "SLOW_CONSUMER; resync via POST /chat-service/v1/chat-rooms/sync");
+
+    private final int queueCapacity;
+    private final int bufferSizeLimit;
+    private final OutboundFramePolicy policy;
+    private final OutboundMetrics metrics;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    private final Deque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+    private int bufferedBytes;
+    private boolean draining;
+
+    private volatile boolean closed;
+    private volatile long sendStartNanos;
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    BoundedOutboundSession(WebSocketSession delegate, int queueCapacity, int bufferSizeLimit,
+                           OutboundFramePolicy policy, OutboundMetrics metrics, Executor executor) {
+        super(delegate);
+        this.queueCapacity = queueCapacity;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.policy = policy;
+        this.metrics = metrics;
+        this.executor = executor;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        boolean overflow = false;
+        boolean startDrain = false;
+        synchronized (lock) {
+            if (isFull(message)) {
+                if (policy.isDroppable(message)) {
+                    drop(1);
+                    return;
+                }
+                drop(dropQueuedDroppable(message));
+                overflow = isFull(message);
+            }
+            if (!overflow) {
+                queue.add(message);
+                bufferedBytes += message.getPayloadLength();
+                metrics.recordQueueDepth(queue.size());
+                if (!draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+        }
+
+        if (overflow) {
+            closeSlowConsumer("overflow");
+        } else if (startDrain) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * 전송 한 건이 sendTimeLimitNanos 보다 오래 걸리면 세션 종료
+     */
+    void checkSendTime(long sendTimeLimitNanos) {
+        long start = sendStartNanos;
+        if (start != 0 && System.nanoTime() - start > sendTimeLimitNanos) {
+            closeSlowConsumer("send-timeout");
+        }
+    }
+
+    int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    private boolean isFull(WebSocketMessage<?> message) {
+        return queue.size() >= queueCapacity || bufferedBytes + message.getPayloadLength() > bufferSizeLimit;
+    }
+
+    /**
+     * 새 메세지가 들어갈 때까지 큐에 있는 버려도 되는 프레임 제거
+     *
+     * @return 버린 프레임 수
+     */
+    private int dropQueuedDroppable(WebSocketMessage<?> message) {
+        int dropped = 0;
+        Iterator<WebSocketMessage<?>> iterator = queue.iterator();
+        while (isFull(message) && iterator.hasNext()) {
+            WebSocketMessage<?> queued = iterator.next();
+            if (policy.isDroppable(queued)) {
+                iterator.remove();
+                bufferedBytes -= queued.getPayloadLength();
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private void drop(int count) {
+        if (count > 0) {
+            droppedFrames.addAndGet(count);
+            metrics.recordDropped(count);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> message;
+            synchronized (lock) {
+                message = queue.poll();
+                if (message == null || closed) {
+                    draining = false;
+                    return;
+                }
+                bufferedBytes -= message.getPayloadLength();
+            }
+
+            sendStartNanos = System.nanoTime();
+            try {
+                getDelegate().sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                log.debug("[소켓 송신] 전송 실패. 세션 Id = {}, {}", getId(), e.getMessage());
+                close(CloseStatus.SESSION_NOT_RELIABLE, "send-error");
+            } finally {
+                sendStartNanos = 0;
+            }
+        }
+    }
+
+    private void closeSlowConsumer(String reason) {
+        log.warn("[소켓 송신] 느린 클라이언트 연결 종료. 세션 Id = {}, 사유 = {}, 대기 프레임 수 = {}, 버린 프레임 수 = {}",
+                getId(), reason, getQueueDepth(), droppedFrames.get());
+        close(SLOW_CONSUMER, reason);
+    }
+
+    private void close(CloseStatus status, String reason) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            bufferedBytes = 0;
+        }
+        metrics.recordDisconnected(reason);
+        try {
+            getDelegate().close(status);
+        } catch (IOException | RuntimeException e) {
+            log.debug("[소켓 송신] 세션 종료 실패. 세션 Id = {}, {}", getId(), e.getMessage());
+        }
+    }
+}
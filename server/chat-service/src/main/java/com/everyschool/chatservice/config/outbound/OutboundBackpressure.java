@@ -0,0 +1,130 @@
+package com.everyschool.chatservice.config.outbound;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 소켓 세션마다 BoundedOutboundSession을 씌우는 핸들러 데코레이터 생성
+ * 실제 전송은 보낼 메세지가 있는 세션마다 스레드 하나가 맡으므로 느린 세션이 다른 세션의 전송을 막지 않음
+ * 스레드는 core-pool-size 개를 유지하고 나머지는 필요할 때 만들며, 주기적으로 전송이 send-time-limit 넘게 걸리는 세션을 종료함
+ */
+@Component
+@Slf4j
+public class OutboundBackpressure implements WebSocketHandlerDecoratorFactory {
+
+    private final int queueCapacity;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitNanos;
+    private final OutboundFramePolicy policy;
+    private final OutboundMetrics metrics;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService watchdog;
+
+    private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+
+    public OutboundBackpressure(MeterRegistry meterRegistry,
+                                @Value("${chat.outbound.queue-capacity:200}") int queueCapacity,
+                                @Value("${chat.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+                                @Value("${chat.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+                                @Value("${chat.outbound.core-pool-size:4}") int corePoolSize) {
+        this.queueCapacity = queueCapacity;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.policy = new OutboundFramePolicy();
+        this.metrics = new OutboundMetrics(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(corePoolSize, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "wss-outbound-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wss-outbound-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMillis = Math.max(sendTimeLimitMillis / 2, 100);
+        this.watchdog.scheduleWithFixedDelay(this::checkSendTime, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("chat.websocket.outbound.sessions", sessions, Map::size)
+                .description("송신 큐가 있는 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.outbound.queued", sessions, OutboundBackpressure::totalQueued)
+                .description("전체 세션의 대기 프레임 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BoundedOutboundSession outboundSession = new BoundedOutboundSession(session, queueCapacity, bufferSizeLimit,
+                        policy, metrics, senders);
+                sessions.put(session.getId(), outboundSession);
+                super.afterConnectionEstablished(outboundSession);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(outbound(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(outbound(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BoundedOutboundSession outboundSession = sessions.remove(session.getId());
+                if (outboundSession != null && outboundSession.getDroppedFrames() > 0) {
+                    log.debug("[소켓 송신] 세션 종료. 세션 Id = {}, 버린 프레임 수 = {}", session.getId(), outboundSession.getDroppedFrames());
+                }
+                super.afterConnectionClosed(outboundSession != null ? outboundSession : session, closeStatus);
+            }
+        };
+    }
+
+    private WebSocketSession outbound(WebSocketSession session) {
+        BoundedOutboundSession outboundSession = sessions.get(session.getId());
+        return outboundSession != null ? outboundSession : session;
+    }
+
+    private void checkSendTime() {
+        for (BoundedOutboundSession session : sessions.values()) {
+            session.checkSendTime(sendTimeLimitNanos);
+        }
+    }
+
+    private static double totalQueued(Map<String, BoundedOutboundSession> sessions) {
+        long total = 0;
+        for (BoundedOutboundSession session : sessions.values()) {
+            total += session.getQueueDepth();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        senders.shutdown();
+    }
+}
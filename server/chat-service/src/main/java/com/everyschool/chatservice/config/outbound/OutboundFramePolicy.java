@@ -0,0 +1,16 @@
+package com.everyschool.chatservice.config.outbound;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 소켓으로 내보내는 STOMP 프레임 분류
+ * 서버가 보내는 프레임 중 버려도 되는 것은 heartbeat 뿐이므로, 큐가 가득 차면 heartbeat만 먼저 버림
+ * 채팅 메세지는 버리지 않고, 들어갈 자리가 없으면 세션을 종료해서 클라이언트가 동기화 API로 다시 받게 함
+ */
+public class OutboundFramePolicy {
+
+    public boolean isDroppable(WebSocketMessage<?> message) {
+        return message instanceof TextMessage && ((TextMessage) message).getPayload().trim().isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package com.everyschool.chatservice.config.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 소켓 송신 큐 지표
+ * 세션 Id를 태그로 쓰면 지표 수가 끝없이 늘어나므로 세션별 값은 분포와 합계로 기록하고, 세션 종료 시 로그로 남김
+ */
+public class OutboundMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary queueDepth;
+    private final Counter droppedFrames;
+
+    public OutboundMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.queueDepth = DistributionSummary.builder("chat.websocket.outbound.queue.depth")
+                .description("세션별 송신 큐 길이")
+                .register(meterRegistry);
+        this.droppedFrames = Counter.builder("chat.websocket.outbound.dropped")
+                .description("큐가 가득 차서 버린 프레임 수")
+                .register(meterRegistry);
+    }
+
+    void recordQueueDepth(int depth) {
+        queueDepth.record(depth);
+    }
+
+    void recordDropped(int count) {
+        droppedFrames.increment(count);
+    }
+
+    void recordDisconnected(String reason) {
+        Counter.builder("chat.websocket.outbound.disconnected")
+                .description("송신 큐 정책으로 종료한 세션 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+}
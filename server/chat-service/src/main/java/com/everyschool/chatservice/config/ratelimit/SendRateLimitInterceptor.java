@@ -0,0 +1,101 @@
+package com.everyschool.chatservice.config.ratelimit;
+
+import com.everyschool.chatservice.config.auth.StompUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 채팅 전송 속도 제한
+ * 제한 대상 주소로 오는 SEND 프레임을 사용자별 토큰 버킷으로 검사하고, 한도를 넘으면 서비스 코드 실행 전에 ERROR 프레임으로 거절함
+ * CONNECT에서 확인한 회원 키로 제한하고, 확인된 사용자가 없으면 세션 Id로 제한함 (메세지 본문의 값은 사용하지 않음)
+ * 버킷은 서버 메모리에만 두므로 서버가 여러 대면 서버마다 따로 제한됨
+ * 다 찬 버킷은 새로 만든 버킷과 같으므로, 다 찰 만큼 사용하지 않은 버킷은 지움
+ */
+@Component
+@Slf4j
+public class SendRateLimitInterceptor implements ChannelInterceptor {
+
+    private final Cache<String, TokenBucket> buckets;
+    private final List<String> destinations;
+    private final int capacity;
+    private final long intervalNanos;
+    private final Ticker ticker;
+    private final Counter rejected;
+
+    @Autowired
+    public SendRateLimitInterceptor(MeterRegistry meterRegistry,
+                                    @Value("${chat.rate-limit.destinations:/pub/chat.send}") List<String> destinations,
+                                    @Value("${chat.rate-limit.capacity:20}") int capacity,
+                                    @Value("${chat.rate-limit.refill-per-second:5}") int refillPerSecond,
+                                    @Value("${chat.rate-limit.max-buckets:100000}") long maxBuckets) {
+        this(meterRegistry, destinations, capacity, refillPerSecond, maxBuckets, Ticker.systemTicker());
+    }
+
+    SendRateLimitInterceptor(MeterRegistry meterRegistry, List<String> destinations, int capacity, int refillPerSecond,
+                             long maxBuckets, Ticker ticker) {
+        this.destinations = destinations;
+        this.capacity = capacity;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / refillPerSecond;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(intervalNanos * capacity, TimeUnit.NANOSECONDS)
+                .maximumSize(maxBuckets)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+        this.rejected = Counter.builder("chat.websocket.inbound.rate-limited")
+                .description("전송 한도를 넘어 거절한 메세지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.inbound.rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("전송 한도를 검사 중인 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SEND || !destinations.contains(accessor.getDestination())) {
+            return message;
+        }
+
+        String key = resolveKey(accessor);
+        long now = ticker.read();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, intervalNanos, now));
+        if (!bucket.tryAcquire(now)) {
+            rejected.increment();
+            log.debug("[전송 제한] 한도 초과. key = {}", key);
+            throw new MessageDeliveryException(message, "채팅 전송 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return message;
+    }
+
+    private String resolveKey(StompHeaderAccessor accessor) {
+        StompUser user = StompUser.from(accessor.getSessionAttributes());
+        if (user != null && user.getUserKey() != null) {
+            return user.getUserKey();
+        }
+        return "session:" + accessor.getSessionId();
+    }
+
+    long getBucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
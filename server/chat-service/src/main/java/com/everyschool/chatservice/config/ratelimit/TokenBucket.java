@@ -0,0 +1,40 @@
+package com.everyschool.chatservice.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷 (GCRA)
+ * 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong에 두고 CAS로 갱신함
+ * capacity 개까지 연속으로 허용하고, 이후에는 interval 마다 하나씩 허용함
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, long intervalNanos, long now) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @param now System.nanoTime() 기준 현재 시각
+     * @return 토큰이 있었으면 true
+     */
+    public boolean tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
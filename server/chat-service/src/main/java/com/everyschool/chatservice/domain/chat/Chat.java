@@ -1,7 +1,9 @@
 package com.everyschool.chatservice.domain.chat;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -10,10 +12,12 @@ import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Document(collection = "chat")
 @Getter
 @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chat {
     @Transient
     public static final String SEQUENCE_NAME = "chat_sequence";
@@ -31,6 +35,8 @@ public class Chat {
     @Field("chat_room_id")
     private Long chatRoomId;
 
+    private List<String> ngrams;
+
     private boolean isDeleted;
     private LocalDateTime createdDate;
     private LocalDateTime lastModifiedDate;
@@ -42,6 +48,7 @@ public class Chat {
         this.content = content;
         this.status = status;
         this.chatRoomId = chatRoomId;
+        this.ngrams = ChatNgrams.of(content);
         this.isDeleted = false;
         this.createdDate = LocalDateTime.now();
         this.lastModifiedDate = LocalDateTime.now();
@@ -0,0 +1,81 @@
+package com.everyschool.chatservice.domain.chat;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 채팅 검색용 bigram 생성
+ * 내용을 NFC 정규화, 소문자 변환 후 글자/숫자가 아닌 문자로 나누고, 단어마다 연속한 두 글자를 만듦
+ * 한 글자 단어는 그대로 사용함
+ */
+public final class ChatNgrams {
+
+    private ChatNgrams() {
+    }
+
+    /**
+     * 내용의 bigram 목록 (중복 제거, 등장 순서)
+     *
+     * @param content
+     * @return bigram 목록
+     */
+    public static List<String> of(String content) {
+        if (content == null || content.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(content)) {
+            if (token.length() == 1) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 검색어의 bigram 목록
+     * 한 글자 단어는 내용에서 더 긴 단어의 일부일 수 있으므로 두 글자 이상 단어가 있으면 제외함
+     *
+     * @param keyword
+     * @return bigram 목록
+     */
+    public static List<String> ofKeyword(String keyword) {
+        List<String> grams = of(keyword);
+        List<String> bigrams = new ArrayList<>();
+        for (String gram : grams) {
+            if (gram.length() == 2) {
+                bigrams.add(gram);
+            }
+        }
+        return bigrams.isEmpty() ? grams : bigrams;
+    }
+
+    /**
+     * 정규화된 단어 목록
+     *
+     * @param content
+     * @return 단어 목록
+     */
+    public static List<String> tokenize(String content) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,211 @@
+package com.everyschool.chatservice.domain.chat.repository;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatNgrams;
+import com.mongodb.client.MongoCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ChatQueryRepository {
+
+    static final String CREATED_DATE_CHAT_ROOM_ID_INDEX = "created_date_chat_room_id";
+    static final String CHAT_ROOM_ID_CHAT_ID_INDEX = "chat_room_id_chat_id";
+    static final String CHAT_ROOM_ID_CREATED_DATE_INDEX = "chat_room_id_created_date";
+    static final String NGRAMS_CHAT_ROOM_ID_CHAT_ID_INDEX = "ngrams_chat_room_id_chat_id";
+    static final int EXPORT_CURSOR_BATCH_SIZE = 500;
+
+    private final MongoOperations mongoOperations;
+
+    /**
+     * 기간 내 채팅이 있던 채팅방 Id를 Mongo에서 중복 제거해서 조회
+     * 채팅 문서를 불러오지 않고 (createdDate, chat_room_id) 인덱스만 사용함
+     * 드라이버를 직접 호출하므로 조건은 QueryMapper로 저장할 때와 같은 방식(필드명, 날짜 시간대)으로 변환함
+     * 사용 후 반드시 스트림을 닫아야 함
+     *
+     * @param start
+     * @param end
+     * @return 채팅방 Id 스트림
+     */
+    public Stream<Long> findDistinctChatRoomIdsByCreatedDateBetween(LocalDateTime start, LocalDateTime end) {
+        Document filter = new QueryMapper(mongoOperations.getConverter()).getMappedObject(
+                where("createdDate").gt(start).lt(end).getCriteriaObject(),
+                mongoOperations.getConverter().getMappingContext().getPersistentEntity(Chat.class));
+        MongoCursor<Long> cursor = mongoOperations.getCollection(mongoOperations.getCollectionName(Chat.class))
+                .distinct("chat_room_id", filter, Long.class)
+                .iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * 채팅방의 idx보다 Id가 작은 채팅 조회 (Id 내림차순)
+     * 채팅 목록 응답에 필요한 필드만 불러옴
+     *
+     * @param chatRoomId
+     * @param excludedStatus 제외할 채팅 상태
+     * @param idx
+     * @param limit
+     * @return 채팅 목록
+     */
+    public List<Chat> findChatPage(Long chatRoomId, int excludedStatus, Long idx, int limit) {
+        Query query = query(where("chatRoomId").is(chatRoomId)
+                .and("status").ne(excludedStatus)
+                .and("id").lt(idx))
+                .with(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(limit);
+        query.fields().include("userId", "content", "createdDate");
+        return mongoOperations.find(query, Chat.class);
+    }
+
+    /**
+     * 채팅방의 lastChatId보다 Id가 큰 채팅 조회 (Id 오름차순)
+     * 채팅 목록 응답에 필요한 필드만 불러옴
+     *
+     * @param chatRoomId
+     * @param excludedStatus 제외할 채팅 상태
+     * @param lastChatId
+     * @param limit
+     * @return 채팅 목록
+     */
+    public List<Chat> findChatsAfter(Long chatRoomId, int excludedStatus, Long lastChatId, int limit) {
+        Query query = query(where("chatRoomId").is(chatRoomId)
+                .and("status").ne(excludedStatus)
+                .and("id").gt(lastChatId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+        query.fields().include("userId", "content", "createdDate");
+        return mongoOperations.find(query, Chat.class);
+    }
+
+    /**
+     * 채팅방의 기간 내 채팅을 커서로 조회 (작성 시간 오름차순)
+     * 결과를 한 번에 불러오지 않고 커서 배치 단위로 읽으므로 채팅 수와 관계없이 메모리 사용량이 일정함
+     * 사용 후 반드시 스트림을 닫아야 함
+     *
+     * @param chatRoomId
+     * @param start
+     * @param end
+     * @return 채팅 스트림
+     */
+    public Stream<Chat> streamChatsByCreatedDateBetween(Long chatRoomId, LocalDateTime start, LocalDateTime end) {
+        Query query = query(where("chatRoomId").is(chatRoomId)
+                .and("createdDate").gte(start).lt(end))
+                .with(Sort.by(Sort.Direction.ASC, "createdDate", "id"))
+                .cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        query.fields().include("userId", "content", "status", "createdDate");
+        CloseableIterator<Chat> cursor = mongoOperations.stream(query, Chat.class);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * bigram을 모두 포함한 채팅을 커서로 조회 (Id 내림차순)
+     * (ngrams, chat_room_id, _id) 인덱스를 사용하므로 정렬 없이 최신 채팅부터 읽음
+     * bigram이 모두 있어도 내용에 검색어가 없을 수 있으므로 호출한 쪽에서 다시 확인해야 함
+     * 사용 후 반드시 스트림을 닫아야 함
+     *
+     * @param chatRoomIds
+     * @param ngrams
+     * @param excludedStatus 제외할 채팅 상태
+     * @param idx
+     * @param batchSize 커서 배치 크기
+     * @return 채팅 스트림
+     */
+    public Stream<Chat> streamChatsByNgrams(Collection<Long> chatRoomIds, List<String> ngrams, int excludedStatus, Long idx, int batchSize) {
+        Query query = query(where("ngrams").all(ngrams)
+                .and("chatRoomId").in(chatRoomIds)
+                .and("status").ne(excludedStatus)
+                .and("id").lt(idx))
+                .with(Sort.by(Sort.Direction.DESC, "id"))
+                .cursorBatchSize(batchSize);
+        query.fields().include("userId", "content", "chatRoomId", "createdDate");
+        CloseableIterator<Chat> cursor = mongoOperations.stream(query, Chat.class);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * bigram이 없는 채팅 조회 (Id 오름차순)
+     * 검색 기능 추가 전에 저장된 채팅의 bigram을 채울 때 사용
+     *
+     * @param fromId 이 Id보다 큰 채팅부터 조회
+     * @param limit
+     * @return 채팅 목록
+     */
+    public List<Chat> findChatsWithoutNgrams(Long fromId, int limit) {
+        Query query = query(where("ngrams").exists(false)
+                .and("id").gt(fromId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+        query.fields().include("content");
+        return mongoOperations.find(query, Chat.class);
+    }
+
+    /**
+     * 채팅 bigram 일괄 저장
+     *
+     * @param chats
+     */
+    public void updateNgrams(List<Chat> chats) {
+        BulkOperations operations = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Chat.class);
+        for (Chat chat : chats) {
+            operations.updateOne(query(where("id").is(chat.getId())), new Update().set("ngrams", ChatNgrams.of(chat.getContent())));
+        }
+        operations.execute();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        ensureIndex(new Index()
+                .on("createdDate", Sort.Direction.ASC)
+                .on("chat_room_id", Sort.Direction.ASC)
+                .named(CREATED_DATE_CHAT_ROOM_ID_INDEX));
+        ensureIndex(new Index()
+                .on("chat_room_id", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.DESC)
+                .named(CHAT_ROOM_ID_CHAT_ID_INDEX));
+        ensureIndex(new Index()
+                .on("chat_room_id", Sort.Direction.ASC)
+                .on("createdDate", Sort.Direction.ASC)
+                .named(CHAT_ROOM_ID_CREATED_DATE_INDEX));
+        ensureIndex(new Index()
+                .on("ngrams", Sort.Direction.ASC)
+                .on("chat_room_id", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.DESC)
+                .named(NGRAMS_CHAT_ROOM_ID_CHAT_ID_INDEX));
+    }
+
+    private void ensureIndex(Index index) {
+        try {
+            mongoOperations.indexOps(Chat.class).ensureIndex(index);
+        } catch (RuntimeException e) {
+            log.warn("[채팅 인덱스] 생성 실패. 인덱스 = {}", index.getIndexOptions().get("name"), e);
+        }
+    }
+}
@@ -13,10 +13,6 @@ public interface ChatRepository extends MongoRepository<Chat, Long> {
 
     List<Chat> findTop20ChatsByChatRoomIdAndStatusAndIdLessThanOrderByIdDesc(Long chatRoomId, int status, Long id);
 
-    List<Chat> findTop20ChatsByChatRoomIdAndStatusNotAndIdLessThanOrderByIdDesc(Long chatRoomId, int status, Long id);
-
-    List<Chat> findByCreatedDateBetween(LocalDateTime startTime, LocalDateTime endTime);
-
     List<Chat> findChatsByChatRoomIdAndCreatedDateBetweenAndStatus(Long chatRoomId, LocalDateTime startTime, LocalDateTime endTime, int status);
 
     Optional<Chat> findChatById(Long id);
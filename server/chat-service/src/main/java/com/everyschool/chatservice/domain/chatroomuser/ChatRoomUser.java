@@ -59,15 +59,10 @@ public class ChatRoomUser extends BaseEntity {
         this.chatRoom = chatRoom;
     }
 
-    public void updateUpdateChat(String lastContent) {
-        if (lastContent.length() >= 50) {
-            lastContent = lastContent.substring(0, 49);
+    public void syncCounter(int unreadCount, String lastContent) {
+        this.unreadCount = unreadCount;
+        if (lastContent != null) {
+            this.lastContent = lastContent;
         }
-        this.lastContent = lastContent;
-        this.unreadCount++;
-    }
-
-    public void read() {
-        this.unreadCount = 0;
     }
 }
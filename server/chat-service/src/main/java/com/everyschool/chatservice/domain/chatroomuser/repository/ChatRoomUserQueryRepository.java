@@ -50,6 +50,20 @@ public class ChatRoomUserQueryRepository {
                         chatRoomUser.chatRoom.id.eq(roomId)).fetchOne());
     }
 
+    /**
+     * 내가 속한 채팅방 Id 목록
+     *
+     * @param userId
+     * @return
+     */
+    public List<Long> findChatRoomIdsByUserId(Long userId) {
+        return queryFactory
+                .select(chatRoomUser.chatRoom.id)
+                .from(chatRoomUser)
+                .where(chatRoomUser.userId.eq(userId))
+                .fetch();
+    }
+
     /**
      * 채팅방 다른 유저 가져오기
      *
@@ -4,10 +4,11 @@ import com.everyschool.chatservice.domain.filterword.Reason;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ReasonRepository extends JpaRepository<Reason, Long> {
 
-    Optional<Reason> findByChatId(Long chatId);
+    List<Reason> findByChatIdIn(Collection<Long> chatIds);
 }
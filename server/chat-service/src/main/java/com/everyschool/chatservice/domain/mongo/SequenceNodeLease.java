@@ -0,0 +1,29 @@
+package com.everyschool.chatservice.domain.mongo;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import javax.persistence.Id;
+import java.util.Date;
+
+/**
+ * 시간순 번호 발급 서버 번호 점유 정보
+ * 서버 번호(id)마다 하나씩 두고, 점유한 서버가 만료 시각 전에 계속 연장함
+ */
+@Document(collection = "sequence_node_leases")
+@Data
+public class SequenceNodeLease {
+
+    @Id
+    private Long id;
+    private String owner;
+    private Date expiresAt;
+
+    @Builder
+    private SequenceNodeLease(Long id, String owner, Date expiresAt) {
+        this.id = id;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,14 +1,18 @@
 package com.everyschool.chatservice.messagequeue;
 
 import com.everyschool.chatservice.api.service.chat.ChatMongoService;
-import com.everyschool.chatservice.api.service.filterword.FilterWordService;
 import com.everyschool.chatservice.domain.chat.ChatReview;
 import com.everyschool.chatservice.domain.chat.repository.ChatReviewRepository;
 import com.everyschool.chatservice.domain.chatroom.ChatRoom;
 import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomRepository;
+import com.everyschool.chatservice.domain.filterword.Reason;
+import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
+import com.everyschool.chatservice.messagequeue.dto.ChatUpdateDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +21,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 @RequiredArgsConstructor
 @Component
@@ -27,33 +29,49 @@ import java.util.Map;
 @Transactional
 public class KafkaConsumer {
 
+    private static final ObjectReader CHAT_UPDATE_READER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(ChatUpdateDto.class);
+
     private final ChatMongoService chatMongoService;
-    private final FilterWordService filterWordService;
+    private final ReasonRepository reasonRepository;
     private final ChatReviewRepository chatReviewRepository;
     private final ChatRoomRepository chatRoomRepository;
 
 
     /**
      * 부적절 채팅 상태 업데이트
+     * 한 번 poll 한 메세지를 모아서 채팅 상태는 한 번의 Mongo 쓰기로, 사유는 한 번의 saveAll로 반영
+     * 읽을 수 없는 메세지는 로그만 남기고 건너뜀
      *
-     * @param kafkaMessage
+     * @param kafkaMessages
      */
-    @KafkaListener(topics = "update-chat-topic")
-    public void updateExp(String kafkaMessage) {
-        log.debug("[카프카] 부적절 채팅 업데이트 카프가 요청 들어옴");
-
-        Map<Object, Object> map = getKafkaRequestDto(kafkaMessage);
-
-        Integer chatId = (Integer) map.get("chatId");
-        String reason = (String) map.get("reason");
-
-        log.debug("[카프카] 부적절 사유 = {}", reason);
+    @KafkaListener(topics = "update-chat-topic", containerFactory = "batchKafkaListenerContainerFactory")
+    public void updateExp(List<String> kafkaMessages) {
+        log.debug("[카프카] 부적절 채팅 업데이트 카프카 요청 들어옴. 메세지 수 = {}", kafkaMessages.size());
+
+        Set<Long> chatIds = new LinkedHashSet<>();
+        List<Reason> reasons = new ArrayList<>();
+        for (String kafkaMessage : kafkaMessages) {
+            ChatUpdateDto dto = readChatUpdateDto(kafkaMessage);
+            if (dto == null) {
+                continue;
+            }
+            chatIds.add(dto.getChatId());
+            reasons.add(Reason.builder()
+                    .chatId(dto.getChatId())
+                    .filterReason(dto.getReason())
+                    .build());
+        }
 
-        chatMongoService.chatUpdate(Long.valueOf(chatId));
-        log.debug("[카프카] 부적절 채팅 상태 변경 함");
+        if (chatIds.isEmpty()) {
+            return;
+        }
+        long updatedCount = chatMongoService.updateWarningChats(chatIds);
+        log.debug("[카프카] 부적절 채팅 상태 변경 함. 변경 수 = {}", updatedCount);
 
-        filterWordService.saveReason(reason, Long.valueOf(chatId));
-        log.debug("[카프카] 부적절 채팅 사유 저장함");
+        reasonRepository.saveAll(reasons);
+        log.debug("[카프카] 부적절 채팅 사유 저장함. 사유 수 = {}", reasons.size());
     }
 
     @KafkaListener(topics = "save-chat-review")
@@ -79,6 +97,26 @@ public class KafkaConsumer {
         log.debug("[카프카] 리뷰 제목 = {}", savedChatReview.getTitle());
     }
 
+    /**
+     * 부적절 채팅 메세지 변환
+     *
+     * @param kafkaMessage
+     * @return 변환한 메세지, 읽을 수 없거나 채팅 Id가 없으면 null
+     */
+    private ChatUpdateDto readChatUpdateDto(String kafkaMessage) {
+        try {
+            ChatUpdateDto dto = CHAT_UPDATE_READER.readValue(kafkaMessage);
+            if (dto == null || dto.getChatId() == null) {
+                log.warn("[카프카] 채팅 Id가 없는 부적절 채팅 메세지 건너뜀. 메세지 = {}", kafkaMessage);
+                return null;
+            }
+            return dto;
+        } catch (JsonProcessingException e) {
+            log.warn("[카프카] 읽을 수 없는 부적절 채팅 메세지 건너뜀. 메세지 = {}, 원인 = {}", kafkaMessage, e.getOriginalMessage());
+            return null;
+        }
+    }
+
     private Map<Object, Object> getKafkaRequestDto(String kafkaMessage) {
         Map<Object, Object> map = new HashMap<>();
         log.info("Kafka Message: ->" + kafkaMessage);
@@ -44,4 +44,20 @@ public class KafkaConsumerConfig {
 
         return kafkaListenerContainerFactory;
     }
+
+    /**
+     * poll 한 메세지를 한 번에 받는 리스너
+     * 같은 채팅방 메세지는 같은 파티션으로 들어오므로 concurrency를 올려도 채팅방 안의 순서는 유지됨
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory
+                = new ConcurrentKafkaListenerContainerFactory<>();
+
+        kafkaListenerContainerFactory.setConsumerFactory(consumerFactory());
+        kafkaListenerContainerFactory.setBatchListener(true);
+        kafkaListenerContainerFactory.setConcurrency(env.getProperty("kafka.consumer.concurrency", Integer.class, 1));
+
+        return kafkaListenerContainerFactory;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.everyschool.chatservice.messagequeue.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * update-chat-topic 메세지
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatUpdateDto {
+
+    private Long chatId;
+    private Long chatRoomId;
+    private String reason;
+
+    @Builder
+    private ChatUpdateDto(Long chatId, Long chatRoomId, String reason) {
+        this.chatId = chatId;
+        this.chatRoomId = chatRoomId;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,100 @@
+package com.everyschool.chatservice.api.controller.chat;
+
+import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
+import com.everyschool.chatservice.api.service.chat.broker.ChatRoomMessagePublisher;
+import com.everyschool.chatservice.api.service.chat.dto.ChatService;
+import com.everyschool.chatservice.api.service.chat.dto.SendMessageDto;
+import com.everyschool.chatservice.api.service.chatroom.ChatRoomService;
+import com.everyschool.chatservice.api.service.chatroom.executor.ChatRoomExecutor;
+import com.everyschool.chatservice.config.auth.StompUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ChatControllerTest {
+
+    private final ChatRoomMessagePublisher chatRoomMessagePublisher = mock(ChatRoomMessagePublisher.class);
+    private final ChatService chatService = mock(ChatService.class);
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+    private final ChatRoomExecutor chatRoomExecutor = mock(ChatRoomExecutor.class);
+    private final ChatController chatController = new ChatController(chatRoomMessagePublisher, chatService,
+            chatRoomService, chatRoomExecutor);
+
+    @DisplayName("채팅을 보낸 사람은 메세지의 회원 키가 아니라 세션 사용자로 정한다.")
+    @Test
+    void sendMessageAsSessionUser() {
+        //given
+        ChatMessage message = ChatMessage.builder()
+                .chatRoomId(10L)
+                .senderUserKey("other-user-key")
+                .message("안녕하세요")
+                .build();
+
+        //when
+        chatController.sendMessage(message, createHeaderAccessor(sessionUser()));
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(chatRoomExecutor).execute(eq(10L), task.capture());
+        task.getValue().run();
+
+        //then
+        ArgumentCaptor<SendMessageDto> dto = ArgumentCaptor.forClass(SendMessageDto.class);
+        verify(chatService).sendMessageProcessing(dto.capture());
+        assertThat(dto.getValue().getSenderUserKey()).isEqualTo("user-key");
+        verify(chatRoomMessagePublisher).publish(10L, message);
+    }
+
+    @DisplayName("세션 사용자가 없으면 채팅 전송과 구독 취소를 거부한다.")
+    @Test
+    void rejectWithoutSessionUser() {
+        //given
+        ChatMessage message = ChatMessage.builder()
+                .chatRoomId(10L)
+                .senderUserKey("other-user-key")
+                .message("안녕하세요")
+                .build();
+
+        //when //then
+        assertThatThrownBy(() -> chatController.sendMessage(message, createHeaderAccessor(null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증되지 않은 사용자입니다.");
+        assertThatThrownBy(() -> chatController.unsubscribe(10L, createHeaderAccessor(null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증되지 않은 사용자입니다.");
+        verify(chatRoomExecutor, never()).execute(anyLong(), any());
+        verify(chatRoomService, never()).disconnect(anyLong(), anyLong());
+    }
+
+    @DisplayName("구독 취소는 세션 사용자로 채팅방에서 나간다.")
+    @Test
+    void unsubscribeAsSessionUser() {
+        //when
+        chatController.unsubscribe(10L, createHeaderAccessor(sessionUser()));
+
+        //then
+        verify(chatRoomService).disconnect(10L, 1L);
+    }
+
+    private StompUser sessionUser() {
+        return StompUser.builder().userKey("user-key").userId(1L).build();
+    }
+
+    private SimpMessageHeaderAccessor createHeaderAccessor(StompUser user) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        if (user != null) {
+            user.saveTo(sessionAttributes);
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionAttributes(sessionAttributes);
+        return accessor;
+    }
+}
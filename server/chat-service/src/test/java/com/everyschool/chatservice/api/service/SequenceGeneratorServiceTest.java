@@ -0,0 +1,227 @@
+package com.everyschool.chatservice.api.service;
+
+import com.everyschool.chatservice.domain.mongo.DatabaseSequence;
+import com.everyschool.chatservice.domain.mongo.SequenceNodeLease;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SequenceGeneratorServiceTest {
+
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicLong now = new AtomicLong(1700000000000L);
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+    private final AtomicInteger leaseCalls = new AtomicInteger();
+    private final Set<Long> takenSlots = ConcurrentHashMap.newKeySet();
+
+    private SequenceGeneratorService createService(long blockSize) {
+        given(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(SequenceNodeLease.class)))
+                .willAnswer(invocation -> {
+                    leaseCalls.incrementAndGet();
+                    Query query = invocation.getArgument(0);
+                    Long slot = ((Number) query.getQueryObject().get("_id")).longValue();
+                    if (takenSlots.contains(slot)) {
+                        throw new DuplicateKeyException("이미 점유된 서버 번호");
+                    }
+                    Document set = (Document) ((Update) invocation.getArgument(1)).getUpdateObject().get("$set");
+                    return SequenceNodeLease.builder()
+                            .id(slot)
+                            .owner((String) set.get("owner"))
+                            .expiresAt((Date) set.get("expiresAt"))
+                            .build();
+                });
+        given(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DatabaseSequence.class)))
+                .willAnswer(invocation -> {
+                    Update update = invocation.getArgument(1);
+                    Number inc = (Number) ((Document) update.getUpdateObject().get("$inc")).get("seq");
+                    return DatabaseSequence.builder()
+                            .id("filter_sequence")
+                            .seq(counter.addAndGet(inc.longValue()))
+                            .build();
+                });
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("sequence.block-size.filter_sequence", String.valueOf(blockSize));
+        return new SequenceGeneratorService(mongoOperations, env, now::get);
+    }
+
+    @DisplayName("예약한 구간을 다 쓰기 전까지는 DB를 다시 조회하지 않는다.")
+    @Test
+    void generateSequenceInBlock() {
+        //given
+        SequenceGeneratorService service = createService(1000);
+
+        //when
+        long first = service.generateSequence("filter_sequence");
+        long last = 0;
+        for (int i = 1; i < 1000; i++) {
+            last = service.generateSequence("filter_sequence");
+        }
+        long next = service.generateSequence("filter_sequence");
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(last).isEqualTo(1000);
+        assertThat(next).isEqualTo(1001);
+        verify(mongoOperations, times(2)).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DatabaseSequence.class));
+    }
+
+    @DisplayName("동시에 발급해도 번호가 중복되지 않는다.")
+    @Test
+    void generateSequenceConcurrently() throws Exception {
+        //given
+        SequenceGeneratorService service = createService(10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> tasks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < 500; j++) {
+                    ids.add(service.generateSequence("filter_sequence"));
+                }
+                return null;
+            });
+        }
+
+        //when
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(ids).hasSize(4000);
+        assertThat(ids).allMatch(id -> id >= 1 && id <= counter.get());
+    }
+
+    @DisplayName("채팅 번호는 서버가 달라도 발급 시각 순서를 따른다.")
+    @Test
+    void generateTimeOrderedSequence() {
+        //given
+        AtomicLong otherNow = new AtomicLong(now.get());
+        TimeOrderedIdGenerator nodeA = new TimeOrderedIdGenerator(1, now::get);
+        TimeOrderedIdGenerator nodeB = new TimeOrderedIdGenerator(2, otherNow::get);
+
+        //when
+        long first = nodeA.next();
+        long second = nodeA.next();
+        otherNow.addAndGet(1);
+        long third = nodeB.next();
+        now.addAndGet(2);
+        long fourth = nodeA.next();
+
+        //then
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+        assertThat(third).isLessThan(fourth);
+        assertThat(fourth).isLessThan(1L << 53);
+    }
+
+    @DisplayName("같은 밀리초에 순번을 다 쓰거나 시계가 뒤로 가도 번호는 계속 증가한다.")
+    @Test
+    void generateTimeOrderedSequenceWithoutClockProgress() {
+        //given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, now::get);
+
+        //when
+        long previous = generator.next();
+        boolean increasing = true;
+        for (int i = 0; i < 1000; i++) {
+            if (i == 500) {
+                now.addAndGet(-10);
+            }
+            long next = generator.next();
+            increasing &= next > previous;
+            previous = next;
+        }
+
+        //then
+        assertThat(increasing).isTrue();
+        assertThat(previous & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(3);
+    }
+
+    @DisplayName("채팅 번호는 DB 조회 없이 발급하고, 서버 번호는 시작할 때 한 번만 점유한다.")
+    @Test
+    void generateChatSequenceWithoutCounter() {
+        //given
+        SequenceGeneratorService service = createService(1000);
+        service.init();
+
+        //when
+        long first = service.generateSequence("chat_sequence");
+        long second = service.generateSequence("chat_sequence");
+
+        //then
+        assertThat(first).isLessThan(second);
+        assertThat(leaseCalls).hasValue(1);
+        verify(mongoOperations, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DatabaseSequence.class));
+    }
+
+    @DisplayName("다른 서버가 점유 중인 서버 번호는 건너뛰고 비어 있는 번호를 점유한다.")
+    @Test
+    void claimFreeNodeId() {
+        //given
+        takenSlots.addAll(Set.of(0L, 1L));
+        SequenceGeneratorService service = createService(1000);
+
+        //when
+        service.init();
+        long id = service.generateSequence("chat_sequence");
+
+        //then
+        assertThat(id & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(2);
+    }
+
+    @DisplayName("비어 있는 서버 번호가 없으면 서버가 시작되지 않는다.")
+    @Test
+    void failWithoutFreeNodeId() {
+        //given
+        for (long slot = 0; slot <= TimeOrderedIdGenerator.MAX_NODE_ID; slot++) {
+            takenSlots.add(slot);
+        }
+        SequenceGeneratorService service = createService(1000);
+
+        //when //then
+        assertThatThrownBy(service::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("사용할 수 있는 서버 번호가 없습니다.");
+    }
+
+    @DisplayName("서버 번호 점유가 만료되면 번호를 발급하기 전에 다시 점유한다.")
+    @Test
+    void renewExpiredNodeId() {
+        //given
+        SequenceGeneratorService service = createService(1000);
+        service.init();
+
+        //when
+        now.addAndGet(30_000L);
+        service.generateSequence("chat_sequence");
+
+        //then
+        assertThat(leaseCalls).hasValue(2);
+    }
+}
@@ -0,0 +1,179 @@
+package com.everyschool.chatservice.api.service.chat;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatReview;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chat.repository.ChatReviewRepository;
+import com.everyschool.chatservice.domain.chatroom.ChatRoom;
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.everyschool.chatservice.domain.filterword.Reason;
+import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.everyschool.chatservice.domain.chat.ChatStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatExportServiceTest {
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final ChatReviewRepository chatReviewRepository = mock(ChatReviewRepository.class);
+    private final ChatQueryRepository chatQueryRepository = mock(ChatQueryRepository.class);
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+    private final ReasonRepository reasonRepository = mock(ReasonRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ChatExportService chatExportService = new ChatExportService(userServiceClient, chatReviewRepository,
+            chatQueryRepository, chatRoomUserQueryRepository, reasonRepository, objectMapper, 2, 31);
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        given(userServiceClient.searchUserInfo("jwt"))
+                .willReturn(UserInfo.builder().userId(1L).build());
+        given(chatReviewRepository.findById(7L))
+                .willReturn(Optional.of(ChatReview.builder().id(7L).title("욕설 \"신고\"").chatRoom(ChatRoom.builder().id(10L).build()).build()));
+        given(chatReviewRepository.findById(8L))
+                .willReturn(Optional.of(ChatReview.builder().id(8L).title("다른 채팅방").chatRoom(ChatRoom.builder().id(11L).build()).build()));
+        given(chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(anyLong(), anyLong()))
+                .willReturn(Optional.empty());
+        given(chatRoomUserQueryRepository.findChatRoomUserByRoomIdAndUserId(10L, 1L))
+                .willReturn(Optional.of(ChatRoomUser.builder().userId(1L).build()));
+        given(chatQueryRepository.streamChatsByCreatedDateBetween(eq(10L), any(), any()))
+                .willAnswer(invocation -> Stream.of(
+                                createChat(1L, 1L, "안녕하세요", PLANE),
+                                createChat(2L, 2L, "나쁜 말, 진짜", WARNING),
+                                createChat(3L, 2L, "=HYPERLINK(\"x\")", BAD),
+                                createChat(4L, 1L, "그러지 마세요", PLANE),
+                                createChat(5L, 1L, "네", PLANE))
+                        .onClose(() -> closed.set(true)));
+        given(reasonRepository.findByChatIdIn(anyCollection()))
+                .willAnswer(invocation -> {
+                    List<Reason> reasons = new ArrayList<>();
+                    for (Object chatId : invocation.<Collection<?>>getArgument(0)) {
+                        reasons.add(Reason.builder().chatId((Long) chatId).filterReason("사유 " + chatId).build());
+                    }
+                    return reasons;
+                });
+    }
+
+    @DisplayName("채팅을 커서에서 읽는 대로 CSV로 쓰고, 경고 사유는 묶음마다 조회한다.")
+    @Test
+    void exportCsv() throws IOException {
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chatExportService.export(10L, 7L, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 11, 2), ChatExportFormat.CSV, "jwt")
+                .writeTo(out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).substring(1).split("\n");
+        assertThat(lines).hasSize(6);
+        assertThat(lines[0]).isEqualTo("title,chatId,sendTime,userId,teacherSend,chatStatus,content,reason");
+        assertThat(lines[1]).startsWith("\"욕설 \"\"신고\"\"\",1,").endsWith(",1,true,\"평범\",\"안녕하세요\",");
+        assertThat(lines[2]).endsWith(",2,false,\"악성의심\",\"나쁜 말, 진짜\",\"사유 2\"");
+        assertThat(lines[3]).endsWith(",\"악성\",\"'=HYPERLINK(\"\"x\"\")\",\"사유 3\"");
+        assertThat(closed).isTrue();
+        // 경고 채팅이 있는 묶음(1~2, 3~4)만 조회함
+        verify(reasonRepository, times(2)).findByChatIdIn(anyCollection());
+    }
+
+    @DisplayName("NDJSON은 첫 줄에 문제 대화 정보를 쓰고 채팅을 한 줄씩 쓴다.")
+    @Test
+    void exportNdjson() throws IOException {
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chatExportService.export(10L, 7L, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 11, 1), ChatExportFormat.NDJSON, "jwt")
+                .writeTo(out);
+
+        //then
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0).get("type").asText()).isEqualTo("review");
+        assertThat(lines.get(0).get("title").asText()).isEqualTo("욕설 \"신고\"");
+        assertThat(lines.get(2).get("type").asText()).isEqualTo("chat");
+        assertThat(lines.get(2).get("chatStatus").asText()).isEqualTo("악성의심");
+        assertThat(lines.get(2).get("reason").asText()).isEqualTo("사유 2");
+        assertThat(lines.get(5).get("chatId").asLong()).isEqualTo(5L);
+    }
+
+    @DisplayName("시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다.")
+    @Test
+    void exportWithInvalidRange() {
+        assertThatThrownBy(() -> chatExportService.export(10L, 7L, LocalDate.of(2023, 11, 2), LocalDate.of(2023, 11, 1), ChatExportFormat.CSV, "jwt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작 날짜가 종료 날짜보다 늦습니다.");
+    }
+
+    @DisplayName("내보내기 기간이 최대 기간보다 길면 예외가 발생한다.")
+    @Test
+    void exportWithTooLongRange() {
+        assertThatThrownBy(() -> chatExportService.export(10L, 7L, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 12, 2), ChatExportFormat.CSV, "jwt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("내보내기 기간은 최대 31일입니다.");
+        verify(chatQueryRepository, never()).streamChatsByCreatedDateBetween(anyLong(), any(), any());
+    }
+
+    @DisplayName("참여하지 않은 채팅방의 대화를 내보내면 예외가 발생한다.")
+    @Test
+    void exportNotMemberChatRoom() {
+        //given
+        given(userServiceClient.searchUserInfo("other"))
+                .willReturn(UserInfo.builder().userId(2L).build());
+
+        //when //then
+        assertThatThrownBy(() -> chatExportService.export(10L, 7L, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 11, 1), ChatExportFormat.CSV, "other"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+        verify(chatQueryRepository, never()).streamChatsByCreatedDateBetween(anyLong(), any(), any());
+    }
+
+    @DisplayName("다른 채팅방의 문제 대화로 내보내면 예외가 발생한다.")
+    @Test
+    void exportReviewOfOtherChatRoom() {
+        assertThatThrownBy(() -> chatExportService.export(10L, 8L, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 11, 1), ChatExportFormat.CSV, "jwt"))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("잘못된 요청입니다.");
+        verify(chatQueryRepository, never()).streamChatsByCreatedDateBetween(anyLong(), any(), any());
+    }
+
+    private Chat createChat(long id, long userId, String content, ChatStatus status) {
+        return Chat.builder()
+                .id(id)
+                .userId(userId)
+                .content(content)
+                .status(status.getCode())
+                .chatRoomId(10L)
+                .build();
+    }
+}
@@ -84,8 +84,8 @@ class ChatQueryServiceTest extends IntegrationTestSupport {
     }
 
     private Chat createSentMessage(ChatRoom savedChatRoom, ChatRoomUser sender, ChatRoomUser receiver, String message) {
-        sender.updateUpdateChat(message);
-        receiver.updateUpdateChat(message);
+        sender.syncCounter(sender.getUnreadCount() + 1, message);
+        receiver.syncCounter(receiver.getUnreadCount() + 1, message);
         return chatRepository.save(Chat.builder()
                 .id(sequenceGeneratorService.generateSequence(Chat.SEQUENCE_NAME))
                 .userId(sender.getUserId())
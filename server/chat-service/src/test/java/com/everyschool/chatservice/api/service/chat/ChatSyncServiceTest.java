@@ -0,0 +1,107 @@
+package com.everyschool.chatservice.api.service.chat;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.response.ChatRoomListResponse;
+import com.everyschool.chatservice.api.service.chat.recent.ChatRecentWindow;
+import com.everyschool.chatservice.api.service.chat.recent.RecentChat;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomQueryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChatSyncServiceTest {
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final ChatRoomQueryRepository chatRoomQueryRepository = mock(ChatRoomQueryRepository.class);
+    private final ChatQueryRepository chatQueryRepository = mock(ChatQueryRepository.class);
+    private final ChatRecentWindow chatRecentWindow = mock(ChatRecentWindow.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ChatSyncService chatSyncService = new ChatSyncService(userServiceClient, chatRoomQueryRepository,
+            mock(ChatRoomCounter.class), chatQueryRepository, chatRecentWindow, objectMapper, 2);
+
+    @DisplayName("채팅방마다 마지막 채팅 이후 채팅 줄과 채팅방 줄을 NDJSON으로 보낸다.")
+    @Test
+    void sync() throws IOException {
+        //given
+        given(userServiceClient.searchUserInfo("jwt"))
+                .willReturn(UserInfo.builder().userId(1L).build());
+        LocalDateTime now = LocalDateTime.now();
+        given(chatRoomQueryRepository.findChatRooms(1L))
+                .willReturn(new ArrayList<>(List.of(
+                        new ChatRoomListResponse(10L, "신짱구", "M", null, "새 메세지", now, 1),
+                        new ChatRoomListResponse(20L, "신짱아", "M", null, "다른 메세지", now, 5),
+                        new ChatRoomListResponse(30L, "요청 안 한 방", "M", null, "메세지", now, 0))));
+        given(chatRecentWindow.findAfter(eq(10L), eq(5L), anyInt()))
+                .willReturn(List.of(createRecentChat(6L, 2L, "새 메세지")));
+        given(chatRecentWindow.findAfter(eq(20L), eq(7L), anyInt()))
+                .willReturn(null);
+        given(chatQueryRepository.findChatsAfter(eq(20L), eq(ChatStatus.BAD.getCode()), eq(7L), anyInt()))
+                .willReturn(List.of(createChat(8L, 1L), createChat(9L, 2L), createChat(10L, 2L)));
+
+        Map<Long, Long> lastChatIds = new LinkedHashMap<>();
+        lastChatIds.put(10L, 5L);
+        lastChatIds.put(20L, 7L);
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chatSyncService.sync("jwt", lastChatIds).writeTo(out);
+
+        //then
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("type").asText() + ":" + line.get("chatRoomId").asLong())
+                .containsExactly("chat:10", "room:10", "chat:20", "chat:20", "room:20");
+        assertThat(lines.get(0).get("chatId").asLong()).isEqualTo(6L);
+        assertThat(lines.get(0).get("mine").asBoolean()).isFalse();
+        assertThat(lines.get(1).get("hasMore").asBoolean()).isFalse();
+        assertThat(lines.get(2).get("mine").asBoolean()).isTrue();
+        assertThat(lines.get(4).get("hasMore").asBoolean()).isTrue();
+        assertThat(lines.get(4).get("unreadMessageNum").asInt()).isEqualTo(5);
+        verify(chatQueryRepository, never()).findChatsAfter(eq(10L), anyInt(), anyLong(), anyInt());
+    }
+
+    private RecentChat createRecentChat(long id, long userId, String content) {
+        return RecentChat.builder()
+                .id(id)
+                .userId(userId)
+                .content(content)
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+
+    private Chat createChat(long id, long userId) {
+        return Chat.builder()
+                .id(id)
+                .userId(userId)
+                .content("메세지 " + id)
+                .status(ChatStatus.PLANE.getCode())
+                .chatRoomId(20L)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.everyschool.chatservice.api.service.chat.broker;
+
+import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 Redis(localhost:6379)를 사용하는 다중 서버 테스트
+ * Redis에 연결할 수 없으면 건너뜀
+ */
+class RedisChatRoomMessagePublisherTest {
+
+    private static final String HOST = "localhost";
+    private static final int PORT = 6379;
+
+    private Node node1;
+    private Node node2;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "로컬 Redis가 없어 테스트를 건너뜁니다.");
+        node1 = new Node();
+        node2 = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (node1 != null) {
+            node1.close();
+        }
+        if (node2 != null) {
+            node2.close();
+        }
+    }
+
+    @DisplayName("다른 서버에서 보낸 메세지는 해당 채팅방을 구독 중인 서버에만 전달된다.")
+    @Test
+    void publish() throws Exception {
+        //given
+        node1.publisher.subscribe("session1", "sub-0", 1L);
+        node2.publisher.subscribe("session2", "sub-0", 2L);
+        Thread.sleep(500);
+
+        ChatMessage message = ChatMessage.builder()
+                .chatRoomId(1L)
+                .senderUserKey("senderUserKey")
+                .message("안녕하세요")
+                .build();
+
+        //when
+        node2.publisher.publish(1L, message);
+
+        //then
+        verify(node1.template, timeout(2000)).convertAndSend(eq("/sub/1"), any(Object.class));
+        verify(node2.template, after(300).never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @DisplayName("채팅방의 마지막 구독이 끝나면 서버는 해당 채팅방 채널 구독을 해제한다.")
+    @Test
+    void unsubscribe() {
+        //given
+        node1.publisher.subscribe("session1", "sub-0", 1L);
+        node1.publisher.subscribe("session2", "sub-0", 1L);
+        node1.publisher.subscribe("session2", "sub-1", 3L);
+
+        //when
+        node1.publisher.unsubscribe("session1", "sub-0");
+        node1.publisher.disconnect("session2");
+
+        //then
+        assertThat(node1.publisher.getSubscribedChatRoomIds()).isEmpty();
+    }
+
+    private static boolean isRedisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOST, PORT), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final SimpMessageSendingOperations template = mock(SimpMessageSendingOperations.class);
+        private final RedisChatRoomMessagePublisher publisher;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(HOST, PORT);
+            connectionFactory.afterPropertiesSet();
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            publisher = new RedisChatRoomMessagePublisher(new StringRedisTemplate(connectionFactory), container, template, new ObjectMapper());
+        }
+
+        void close() throws Exception {
+            container.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
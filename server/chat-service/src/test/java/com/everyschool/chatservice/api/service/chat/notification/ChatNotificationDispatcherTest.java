@@ -0,0 +1,100 @@
+package com.everyschool.chatservice.api.service.chat.notification;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.service.chat.dto.SendMessageDto;
+import com.everyschool.chatservice.api.service.chatroom.presence.ChatRoomPresence;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ChatNotificationDispatcherTest {
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+    private final ChatRoomPresence chatRoomPresence = mock(ChatRoomPresence.class);
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+
+    private ChatNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserInfo teacher = UserInfo.builder()
+                .userId(2L)
+                .userType('T')
+                .userName("오연주")
+                .schoolClassId(1L)
+                .build();
+        given(userServiceClient.searchUserInfoByUserKey(anyString())).willReturn(teacher);
+        given(userServiceClient.searchFcmTokenByUserId(anyLong())).willReturn("fcmToken");
+        given(chatRoomUserQueryRepository.findOpponentUserId(anyLong(), anyLong())).willReturn(Optional.of(1L));
+        given(firebaseMessaging.sendEach(anyList())).willReturn(mock(BatchResponse.class));
+
+        dispatcher = new ChatNotificationDispatcher(userServiceClient, chatRoomUserQueryRepository,
+                chatRoomPresence, firebaseMessaging, 60_000, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("같은 주기 안에 같은 채팅방으로 보낸 메세지는 알림 하나로 합쳐서 한 번에 전송한다.")
+    @Test
+    void coalesce() throws Exception {
+        //given
+        given(chatRoomPresence.count(anyLong())).willReturn(1L);
+        dispatcher.submit(createDto(1L, "첫 번째"));
+        dispatcher.submit(createDto(1L, "두 번째"));
+        dispatcher.submit(createDto(1L, "세 번째"));
+        dispatcher.submit(createDto(2L, "다른 채팅방"));
+
+        //when
+        dispatcher.flush();
+
+        //then
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, timeout(2000)).sendEach(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        verify(userServiceClient, times(1)).searchUserInfoByUserKey(anyString());
+    }
+
+    @DisplayName("상대가 채팅방에 들어와 있으면 알림을 보내지 않는다.")
+    @Test
+    void skipWhenOpponentConnected() throws Exception {
+        //given
+        given(chatRoomPresence.count(anyLong())).willReturn(2L);
+        dispatcher.submit(createDto(1L, "안녕하세요"));
+
+        //when
+        dispatcher.flush();
+
+        //then
+        verify(chatRoomPresence, timeout(2000)).count(1L);
+        verify(firebaseMessaging, after(200).never()).sendEach(anyList());
+        verify(userServiceClient, never()).searchFcmTokenByUserId(anyLong());
+    }
+
+    private SendMessageDto createDto(Long chatRoomId, String message) {
+        return SendMessageDto.builder()
+                .chatRoomId(chatRoomId)
+                .senderUserKey("teacherUserKey")
+                .message(message)
+                .build();
+    }
+}
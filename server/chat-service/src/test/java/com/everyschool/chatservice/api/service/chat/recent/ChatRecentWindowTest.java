@@ -0,0 +1,134 @@
+package com.everyschool.chatservice.api.service.chat.recent;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 Redis(localhost:6379)를 사용하는 테스트
+ * Redis에 연결할 수 없으면 Redis가 필요한 테스트는 건너뜀
+ */
+class ChatRecentWindowTest {
+
+    private static final long CHAT_ROOM_ID = 987654321L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (!isRedisAvailable()) {
+            return;
+        }
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(ChatRecentWindow.KEY_PREFIX + CHAT_ROOM_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            redisTemplate.delete(ChatRecentWindow.KEY_PREFIX + CHAT_ROOM_ID);
+            connectionFactory.destroy();
+        }
+    }
+
+    @DisplayName("최근 채팅은 보관 개수만큼만 남고, Id 내림차순으로 idx보다 작은 채팅을 조회한다.")
+    @Test
+    void findBefore() {
+        assumeTrue(redisTemplate != null, "로컬 Redis가 없어 테스트를 건너뜁니다.");
+
+        //given
+        ChatRecentWindow window = new ChatRecentWindow(redisTemplate, 5, 60000);
+        for (long id = 1; id <= 8; id++) {
+            window.add(createChat(id, "메세지 " + id));
+        }
+
+        //when
+        List<RecentChat> newest = window.findBefore(CHAT_ROOM_ID, Long.MAX_VALUE, 3);
+        List<RecentChat> older = window.findBefore(CHAT_ROOM_ID, 6L, 20);
+
+        //then
+        assertThat(newest).extracting("id").containsExactly(8L, 7L, 6L);
+        assertThat(newest.get(0).getContent()).isEqualTo("메세지 8");
+        assertThat(newest.get(0).getCreatedDate()).isNotNull();
+        assertThat(older).extracting("id").containsExactly(5L, 4L);
+        assertThat(redisTemplate.opsForZSet().size(ChatRecentWindow.KEY_PREFIX + CHAT_ROOM_ID)).isEqualTo(5);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("최근 채팅 추가에 실패하면 보관 내용을 지울 때까지 Redis에서 조회하지 않는다.")
+    @Test
+    void invalidateWhenAddFails() {
+        //given
+        StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        given(failingTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("연결 실패"));
+        given(failingTemplate.delete(anyString()))
+                .willThrow(new RedisConnectionFailureException("연결 실패"))
+                .willThrow(new RedisConnectionFailureException("연결 실패"))
+                .willReturn(true);
+        given(failingTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeWithScores(anyString(), eq(0L), eq(0L))).willReturn(Collections.emptySet());
+        ChatRecentWindow window = new ChatRecentWindow(failingTemplate, 5, 60000);
+
+        //when
+        window.add(createChat(1L, "메세지 1"));
+        List<RecentChat> whileCold = window.findBefore(CHAT_ROOM_ID, Long.MAX_VALUE, 3);
+        verify(failingTemplate, never()).opsForZSet();
+        List<RecentChat> afterInvalidated = window.findAfter(CHAT_ROOM_ID, 0L, 3);
+
+        //then
+        assertThat(whileCold).isEmpty();
+        assertThat(afterInvalidated).isNull();
+        verify(failingTemplate, times(3)).delete(ChatRecentWindow.KEY_PREFIX + CHAT_ROOM_ID);
+        verify(zSetOperations).rangeWithScores(ChatRecentWindow.KEY_PREFIX + CHAT_ROOM_ID, 0, 0);
+    }
+
+    private Chat createChat(long id, String content) {
+        return Chat.builder()
+                .id(id)
+                .userId(1L)
+                .content(content)
+                .status(ChatStatus.PLANE.getCode())
+                .chatRoomId(CHAT_ROOM_ID)
+                .build();
+    }
+
+    private static boolean isRedisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
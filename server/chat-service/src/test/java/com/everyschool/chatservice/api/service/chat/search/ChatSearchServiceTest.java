@@ -0,0 +1,108 @@
+package com.everyschool.chatservice.api.service.chat.search;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.response.ChatSearchResponse;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chat.ChatStatus;
+import com.everyschool.chatservice.domain.chat.repository.ChatQueryRepository;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ChatSearchServiceTest {
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+    private final ChatQueryRepository chatQueryRepository = mock(ChatQueryRepository.class);
+
+    private final ChatSearchService chatSearchService = new ChatSearchService(userServiceClient, chatRoomUserQueryRepository,
+            chatQueryRepository, 2, 10);
+
+    @BeforeEach
+    void setUp() {
+        given(userServiceClient.searchUserInfo("jwt"))
+                .willReturn(UserInfo.builder().userId(1L).build());
+        given(chatRoomUserQueryRepository.findChatRoomIdsByUserId(1L))
+                .willReturn(List.of(10L, 20L));
+    }
+
+    @DisplayName("bigram 후보 중 검색어가 실제로 포함된 채팅만 최신순으로 페이지 크기만큼 반환한다.")
+    @Test
+    void search() {
+        //given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(chatQueryRepository.streamChatsByNgrams(eq(List.of(10L, 20L)), eq(List.of("상담", "담일", "일정")), eq(ChatStatus.BAD.getCode()), eq(Long.MAX_VALUE), anyInt()))
+                .willReturn(Stream.of(
+                                createChat(9L, 10L, 1L, "상담일정 잡았습니다"),
+                                createChat(8L, 20L, 2L, "일정 상담 담일"),
+                                createChat(7L, 10L, 2L, "상담일정 확인 부탁드려요"),
+                                createChat(6L, 10L, 2L, "상담일정 변경"))
+                        .onClose(() -> closed.set(true)));
+
+        //when
+        List<ChatSearchResponse> responses = chatSearchService.search("jwt", "상담일정", null, null);
+
+        //then
+        assertThat(responses).extracting(ChatSearchResponse::getChatId, ChatSearchResponse::isMine)
+                .containsExactly(
+                        tuple(9L, true),
+                        tuple(7L, false));
+        assertThat(closed).isTrue();
+    }
+
+    @DisplayName("참여하지 않은 채팅방에서는 검색할 수 없다.")
+    @Test
+    void searchInOtherChatRoom() {
+        assertThatThrownBy(() -> chatSearchService.search("jwt", "상담", 30L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+        verifyNoInteractions(chatQueryRepository);
+    }
+
+    @DisplayName("채팅방을 지정하면 해당 채팅방에서만 검색한다.")
+    @Test
+    void searchInChatRoom() {
+        //given
+        given(chatQueryRepository.streamChatsByNgrams(anyCollection(), anyList(), anyInt(), anyLong(), anyInt()))
+                .willReturn(Stream.empty());
+
+        //when
+        chatSearchService.search("jwt", "상담", 20L, 100L);
+
+        //then
+        verify(chatQueryRepository).streamChatsByNgrams(eq(List.of(20L)), eq(List.of("상담")), eq(ChatStatus.BAD.getCode()), eq(100L), anyInt());
+    }
+
+    @DisplayName("검색어가 두 글자보다 짧으면 예외가 발생한다.")
+    @Test
+    void searchWithShortKeyword() {
+        assertThatThrownBy(() -> chatSearchService.search("jwt", " 네? ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어는 두 글자 이상 입력해주세요.");
+    }
+
+    private Chat createChat(long id, long chatRoomId, long userId, String content) {
+        return Chat.builder()
+                .id(id)
+                .userId(userId)
+                .content(content)
+                .status(ChatStatus.PLANE.getCode())
+                .chatRoomId(chatRoomId)
+                .build();
+    }
+}
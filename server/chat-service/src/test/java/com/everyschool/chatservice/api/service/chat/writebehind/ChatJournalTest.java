@@ -0,0 +1,91 @@
+package com.everyschool.chatservice.api.service.chat.writebehind;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("저장이 끝난 세그먼트는 다른 채팅이 남아있어도 바로 지워진다.")
+    @Test
+    void commitSegment() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        ChatJournal journal = new ChatJournal(journalPath);
+        long first = journal.append(createChat(1L));
+        journal.append(createChat(2L));
+        journal.rotate();
+        long second = journal.append(createChat(3L));
+
+        //when
+        journal.commit(Map.of(first, 2));
+
+        //then
+        assertThat(Files.exists(tempDir.resolve("chat-journal.log." + first))).isFalse();
+        assertThat(Files.exists(tempDir.resolve("chat-journal.log." + second))).isTrue();
+        assertThat(journal.readAll().stream().map(Chat::getId).collect(Collectors.toList()))
+                .containsExactly(3L);
+        journal.close();
+    }
+
+    @DisplayName("일부만 저장된 세그먼트는 지우지 않는다.")
+    @Test
+    void commitSegmentPartially() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        ChatJournal journal = new ChatJournal(journalPath, 1000);
+        long segment = journal.append(createChat(1L));
+        journal.append(createChat(2L));
+        journal.rotate();
+
+        //when
+        journal.commit(Map.of(segment, 1));
+
+        //then
+        assertThat(Files.exists(tempDir.resolve("chat-journal.log." + segment))).isTrue();
+        journal.close();
+    }
+
+    @DisplayName("세그먼트 번호는 남아있는 세그먼트 다음부터 이어서 사용하고, 복구 후에도 처음으로 돌아가지 않는다.")
+    @Test
+    void keepSegmentNumber() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        Files.writeString(tempDir.resolve("chat-journal.log.5"), "");
+        ChatJournal journal = new ChatJournal(journalPath);
+
+        //when
+        long segment = journal.append(createChat(1L));
+        journal.truncate();
+        journal.rotate();
+        long next = journal.append(createChat(2L));
+
+        //then
+        assertThat(segment).isEqualTo(6);
+        assertThat(next).isEqualTo(7);
+        assertThat(Files.exists(tempDir.resolve("chat-journal.log.5"))).isFalse();
+        assertThat(Files.exists(tempDir.resolve("chat-journal.log.6"))).isTrue();
+        journal.close();
+    }
+
+    private Chat createChat(Long id) {
+        return Chat.builder()
+                .id(id)
+                .userId(1L)
+                .content("안녕하세요")
+                .status(8001)
+                .chatRoomId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.everyschool.chatservice.api.service.chat.writebehind;
+
+import com.everyschool.chatservice.domain.chat.Chat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ChatWriteBehindServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+    private final List<Long> savedIds = new CopyOnWriteArrayList<>();
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+    private ChatWriteBehindService service;
+
+    private ChatWriteBehindService createService(Path journalPath) {
+        given(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Chat.class))
+                .willReturn(bulkOperations);
+        given(bulkOperations.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class)))
+                .willAnswer(invocation -> {
+                    savedIds.add(((Chat) invocation.getArgument(1)).getId());
+                    return bulkOperations;
+                });
+        service = new ChatWriteBehindService(mongoOperations, journalPath.toString(), 1000, 200, 20, 0);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.stop();
+    }
+
+    @DisplayName("저장 요청된 채팅은 모아서 bulkWrite로 저장되고 저널은 비워진다.")
+    @Test
+    void write() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        ChatWriteBehindService service = createService(journalPath);
+        service.start();
+
+        //when
+        for (long id = 1; id <= 500; id++) {
+            service.write(createChat(id));
+        }
+        waitUntilSaved(500);
+
+        //then
+        assertThat(savedIds).hasSize(500);
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    @DisplayName("서버 시작 시 저널에 남아있는 채팅을 저장한다.")
+    @Test
+    void replayJournal() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        ChatJournal journal = new ChatJournal(journalPath);
+        journal.append(createChat(1L));
+        long segment = journal.append(createChat(2L));
+        journal.close();
+        Files.writeString(tempDir.resolve("chat-journal.log." + segment), "{\"id\":3,\"con", StandardOpenOption.APPEND);
+
+        ChatWriteBehindService service = createService(journalPath);
+
+        //when
+        service.start();
+
+        //then
+        assertThat(savedIds).containsExactly(1L, 2L);
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    @DisplayName("저널 복구 중에 들어온 채팅은 복구가 끝난 뒤 기록되고, 저장될 때까지 저널에 남는다.")
+    @Test
+    void writeDuringReplay() throws Exception {
+        //given
+        Path journalPath = tempDir.resolve("chat-journal.log");
+        ChatJournal journal = new ChatJournal(journalPath);
+        journal.append(createChat(1L));
+        journal.close();
+
+        ChatWriteBehindService service = createService(journalPath);
+        CountDownLatch replayStarted = new CountDownLatch(1);
+        CountDownLatch releaseReplay = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        given(bulkOperations.execute()).willAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                replayStarted.countDown();
+                releaseReplay.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<?> replay = executor.submit(service::start);
+        replayStarted.await(5, TimeUnit.SECONDS);
+        Future<Chat> write = executor.submit(() -> service.write(createChat(2L)));
+        Thread.sleep(100);
+        boolean writtenDuringReplay = write.isDone();
+        releaseReplay.countDown();
+        replay.get(5, TimeUnit.SECONDS);
+        write.get(5, TimeUnit.SECONDS);
+        waitUntilSaved(2);
+        executor.shutdown();
+
+        //then
+        assertThat(writtenDuringReplay).isFalse();
+        assertThat(savedIds).containsExactly(1L, 2L);
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    private void waitUntilSaved(int count) throws Exception {
+        for (int i = 0; i < 200 && savedIds.size() < count; i++) {
+            Thread.sleep(10);
+        }
+        for (int i = 0; i < 200 && !journalFiles().isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private Chat createChat(Long id) {
+        return Chat.builder()
+                .id(id)
+                .userId(1L)
+                .content("안녕하세요")
+                .status(8001)
+                .chatRoomId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.everyschool.chatservice.api.service.chatroom.counter;
+
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChatRoomCounterReconcilerTest {
+
+    private final ChatRoomCounter chatRoomCounter = mock(ChatRoomCounter.class);
+    private final ChatRoomUserQueryRepository chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+    private final ChatRoomCounterReconciler reconciler = new ChatRoomCounterReconciler(chatRoomCounter, chatRoomUserQueryRepository);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        given(chatRoomCounter.popDirtyChatRoomIds(anyInt())).willReturn(List.of(1L, 2L));
+        given(chatRoomCounter.getState(anyLong())).willReturn(Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @DisplayName("DB 반영이 롤백되면 꺼낸 채팅방 Id를 dirty 집합에 다시 넣는다.")
+    @Test
+    void markDirtyAgainOnRollback() {
+        //given
+        given(chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(anyLong()))
+                .willThrow(new IllegalStateException("DB 오류"));
+
+        //when
+        assertThatThrownBy(reconciler::reconcile).isInstanceOf(IllegalStateException.class);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        verify(chatRoomCounter).markDirty(List.of(1L, 2L));
+    }
+
+    @DisplayName("DB 반영이 커밋되면 dirty 집합에 다시 넣지 않는다.")
+    @Test
+    void keepPoppedOnCommit() {
+        //given
+        given(chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(anyLong())).willReturn(List.of());
+
+        //when
+        reconciler.reconcile();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        //then
+        verify(chatRoomCounter, never()).markDirty(anyCollection());
+    }
+
+    private void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.everyschool.chatservice.api.service.chatroom.counter;
+
+import com.everyschool.chatservice.api.controller.chat.response.ChatRoomListResponse;
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 Redis(localhost:6379)를 사용하는 테스트
+ * Redis에 연결할 수 없으면 건너뜀
+ */
+class ChatRoomCounterTest {
+
+    private static final long CHAT_ROOM_ID = 987654321L;
+    private static final long OTHER_CHAT_ROOM_ID = 987654322L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ChatRoomUserQueryRepository chatRoomUserQueryRepository;
+    private ChatRoomCounter chatRoomCounter;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "로컬 Redis가 없어 테스트를 건너뜁니다.");
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        clear();
+
+        chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+        given(chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(anyLong()))
+                .willReturn(List.of(createChatRoomUser(1L, 3), createChatRoomUser(2L, 0)));
+        chatRoomCounter = new ChatRoomCounter(redisTemplate, chatRoomUserQueryRepository, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            clear();
+            connectionFactory.destroy();
+        }
+    }
+
+    @DisplayName("처음 사용하는 채팅방은 DB 값으로 한 번만 초기화한 뒤 Redis에서 안 읽은 수를 증가시킨다.")
+    @Test
+    void increaseUnread() {
+        //when
+        chatRoomCounter.increaseUnread(CHAT_ROOM_ID, "안녕하세요");
+        chatRoomCounter.increaseUnread(CHAT_ROOM_ID, "a".repeat(60));
+
+        //then
+        verify(chatRoomUserQueryRepository, times(1)).findChatRoomUsersByChatRoomId(CHAT_ROOM_ID);
+        assertThat(chatRoomCounter.getState(CHAT_ROOM_ID))
+                .containsEntry("unread:1", "5")
+                .containsEntry("unread:2", "2")
+                .containsEntry("lastContent", "a".repeat(49));
+        assertThat(chatRoomCounter.popDirtyChatRoomIds(10)).containsExactly(CHAT_ROOM_ID);
+    }
+
+    @DisplayName("읽음 처리하면 해당 회원의 안 읽은 수만 0이 된다.")
+    @Test
+    void read() {
+        //given
+        chatRoomCounter.increaseUnread(CHAT_ROOM_ID, "안녕하세요");
+
+        //when
+        chatRoomCounter.read(CHAT_ROOM_ID, 1L);
+
+        //then
+        assertThat(chatRoomCounter.getState(CHAT_ROOM_ID))
+                .containsEntry("unread:1", "0")
+                .containsEntry("unread:2", "1");
+    }
+
+    @DisplayName("채팅방 카운터에는 만료 시간이 설정된다.")
+    @Test
+    void expire() {
+        //when
+        chatRoomCounter.read(CHAT_ROOM_ID, 1L);
+
+        //then
+        assertThat(redisTemplate.getExpire(ChatRoomCounter.KEY_PREFIX + CHAT_ROOM_ID))
+                .isGreaterThan(0L)
+                .isLessThanOrEqualTo(3600L);
+    }
+
+    @DisplayName("채팅방 목록에 Redis 값을 반영하고 최근 메세지 순으로 정렬한다.")
+    @Test
+    void apply() {
+        //given
+        LocalDateTime old = LocalDateTime.now().minusDays(1);
+        List<ChatRoomListResponse> chatRooms = new ArrayList<>(List.of(
+                new ChatRoomListResponse(OTHER_CHAT_ROOM_ID, "다른 방", "M", null, "이전 메세지", old, 0),
+                new ChatRoomListResponse(CHAT_ROOM_ID, "방", "M", null, "이전 메세지", old.minusDays(1), 3)));
+        chatRoomCounter.increaseUnread(CHAT_ROOM_ID, "새 메세지");
+
+        //when
+        chatRoomCounter.apply(chatRooms, 1L);
+
+        //then
+        assertThat(chatRooms)
+                .extracting("roomId", "lastMessage", "unreadMessageNum")
+                .containsExactly(
+                        tuple(CHAT_ROOM_ID, "새 메세지", 4),
+                        tuple(OTHER_CHAT_ROOM_ID, "이전 메세지", 0)
+                );
+    }
+
+    private void clear() {
+        redisTemplate.delete(List.of(ChatRoomCounter.KEY_PREFIX + CHAT_ROOM_ID,
+                ChatRoomCounter.KEY_PREFIX + OTHER_CHAT_ROOM_ID, ChatRoomCounter.DIRTY_KEY));
+    }
+
+    private ChatRoomUser createChatRoomUser(long userId, int unreadCount) {
+        return ChatRoomUser.builder()
+                .chatRoomTitle("채팅방")
+                .userId(userId)
+                .opponentUserType("M")
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    private static boolean isRedisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.everyschool.chatservice.api.service.chatroom.executor;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
+import com.everyschool.chatservice.api.service.SequenceGeneratorService;
+import com.everyschool.chatservice.api.service.chat.recent.ChatRecentWindow;
+import com.everyschool.chatservice.api.service.chat.writebehind.ChatWriteBehindService;
+import com.everyschool.chatservice.api.service.chatroom.counter.ChatRoomCounter;
+import com.everyschool.chatservice.api.service.filterword.FilterWordDictionary;
+import com.everyschool.chatservice.api.service.filterword.FilterWordService;
+import com.everyschool.chatservice.domain.chat.Chat;
+import com.everyschool.chatservice.domain.chatroomuser.ChatRoomUser;
+import com.everyschool.chatservice.domain.chatroomuser.repository.ChatRoomUserQueryRepository;
+import com.everyschool.chatservice.domain.filterword.repository.FilterWordRepository;
+import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ChatRoomExecutorTest {
+
+    private static final long CHAT_ROOM_ID = 987654400L;
+    private static final int ROOMS = 8;
+    private static final int PRODUCERS = 8;
+    private static final int MESSAGES_PER_PRODUCER = 400;
+
+    private ChatRoomExecutor chatRoomExecutor;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomExecutor = new ChatRoomExecutor(4, 5000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chatRoomExecutor.shutdown();
+    }
+
+    @DisplayName("여러 스레드가 동시에 보내도 채팅방 안에서는 보낸 순서대로 저장되고, 안 읽은 수와 마지막 메세지가 맞다.")
+    @Test
+    void keepOrderAndUnreadCountUnderContention() throws Exception {
+        assumeTrue(isRedisAvailable(), "로컬 Redis가 없어 테스트를 건너뜁니다.");
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        clearCounters(redisTemplate);
+        try {
+            //given
+            ChatRoomUserQueryRepository chatRoomUserQueryRepository = mock(ChatRoomUserQueryRepository.class);
+            given(chatRoomUserQueryRepository.findChatRoomUsersByChatRoomId(anyLong()))
+                    .willReturn(List.of(createChatRoomUser(1L), createChatRoomUser(2L)));
+            ChatRoomCounter chatRoomCounter = new ChatRoomCounter(redisTemplate, chatRoomUserQueryRepository, 3600);
+
+            // 채팅방별로 저장 요청된 순서대로 기록
+            Map<Long, List<Chat>> written = new ConcurrentHashMap<>();
+            ChatWriteBehindService chatWriteBehindService = mock(ChatWriteBehindService.class);
+            given(chatWriteBehindService.write(any())).willAnswer(invocation -> {
+                Chat chat = invocation.getArgument(0);
+                written.computeIfAbsent(chat.getChatRoomId(), id -> Collections.synchronizedList(new ArrayList<>())).add(chat);
+                return chat;
+            });
+            SequenceGeneratorService sequenceGeneratorService = mock(SequenceGeneratorService.class);
+            AtomicLong sequence = new AtomicLong();
+            given(sequenceGeneratorService.generateSequence(anyString())).willAnswer(invocation -> sequence.incrementAndGet());
+            UserServiceClient userServiceClient = mock(UserServiceClient.class);
+            given(userServiceClient.searchUserInfoByUserKey(anyString())).willReturn(UserInfo.builder().userId(1L).userType('M').build());
+            FilterWordDictionary filterWordDictionary = mock(FilterWordDictionary.class);
+            given(filterWordDictionary.findAll(anyString())).willReturn(List.of());
+
+            FilterWordService filterWordService = new FilterWordService(mock(FilterWordRepository.class), chatWriteBehindService,
+                    mock(ChatRecentWindow.class), chatRoomCounter, mock(ReasonRepository.class), sequenceGeneratorService,
+                    userServiceClient, filterWordDictionary, mock(ApplicationEventPublisher.class), mock(Destination.Factory.class));
+
+            //when
+            ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                int producerId = producer;
+                futures.add(producers.submit(() -> {
+                    start.await();
+                    for (int seq = 1; seq <= MESSAGES_PER_PRODUCER; seq++) {
+                        long chatRoomId = CHAT_ROOM_ID + seq % ROOMS;
+                        ChatMessage message = ChatMessage.builder()
+                                .chatRoomId(chatRoomId)
+                                .senderUserKey("user-key")
+                                .message(producerId + ":" + seq)
+                                .build();
+                        chatRoomExecutor.call(chatRoomId, () -> filterWordService.sendMessage(message));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            producers.shutdown();
+
+            //then
+            long perRoom = (long) PRODUCERS * MESSAGES_PER_PRODUCER / ROOMS;
+            for (int room = 0; room < ROOMS; room++) {
+                long chatRoomId = CHAT_ROOM_ID + room;
+                List<Chat> chats = written.get(chatRoomId);
+                assertThat(chats).hasSize((int) perRoom);
+
+                // Id 발급 순서와 저장 순서가 같고, 보낸 사람별로 보낸 순서가 유지됨
+                assertThat(chats).extracting(Chat::getId).isSorted();
+                Map<String, Integer> lastSeqs = new HashMap<>();
+                for (Chat chat : chats) {
+                    String[] parts = chat.getContent().split(":");
+                    int seq = Integer.parseInt(parts[1]);
+                    assertThat(lastSeqs.getOrDefault(parts[0], 0)).isLessThan(seq);
+                    lastSeqs.put(parts[0], seq);
+                }
+
+                assertThat(chatRoomCounter.getState(chatRoomId))
+                        .containsEntry("unread:1", String.valueOf(perRoom))
+                        .containsEntry("unread:2", String.valueOf(perRoom))
+                        .containsEntry("lastContent", chats.get(chats.size() - 1).getContent());
+            }
+        } finally {
+            clearCounters(redisTemplate);
+            connectionFactory.destroy();
+        }
+    }
+
+    @DisplayName("다른 채팅방의 작업은 동시에 실행된다.")
+    @Test
+    void runDifferentRoomsInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        CompletableFuture<Boolean> first = chatRoomExecutor.submit(1L, () -> awaitQuietly(bothStarted));
+        CompletableFuture<Boolean> second = chatRoomExecutor.submit(2L, () -> awaitQuietly(bothStarted));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("작업이 실패해도 예외를 호출한 쪽에 전달하고, 채팅방의 다음 작업은 계속 실행된다.")
+    @Test
+    void propagateFailureAndContinue() {
+        assertThatThrownBy(() -> chatRoomExecutor.call(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("실패");
+
+        chatRoomExecutor.execute(1L, () -> {
+            throw new IllegalStateException("로그만 남김");
+        });
+
+        assertThat(chatRoomExecutor.call(1L, () -> "다음 작업")).isEqualTo("다음 작업");
+    }
+
+    @DisplayName("작업에서 Error가 발생해도 채팅방의 다음 작업은 계속 실행된다.")
+    @Test
+    void continueAfterError() {
+        chatRoomExecutor.execute(1L, () -> {
+            throw new AssertionError("로그만 남김");
+        });
+
+        assertThat(chatRoomExecutor.call(1L, () -> "다음 작업")).isEqualTo("다음 작업");
+    }
+
+    @DisplayName("결과를 기다리는 시간이 지나면 예외가 발생하고, 아직 시작하지 않은 작업은 실행하지 않는다.")
+    @Test
+    void callTimeout() throws Exception {
+        //given
+        ChatRoomExecutor executor = new ChatRoomExecutor(2, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        executor.execute(1L, () -> {
+            try {
+                release.await(3, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //when
+        assertThatThrownBy(() -> executor.call(1L, executed::incrementAndGet))
+                .isInstanceOf(ChatRoomCallTimeoutException.class)
+                .extracting("started").isEqualTo(false);
+        release.countDown();
+
+        //then
+        assertThat(executor.call(1L, () -> "다음 작업")).isEqualTo("다음 작업");
+        assertThat(executed).hasValue(0);
+        executor.shutdown();
+    }
+
+    @DisplayName("이미 시작한 작업은 시간이 지나도 취소하지 않고 끝날 때까지 한 번 더 기다린다.")
+    @Test
+    void waitStartedTask() throws Exception {
+        //given
+        ChatRoomExecutor executor = new ChatRoomExecutor(2, 200);
+
+        //when
+        String result = executor.call(1L, () -> {
+            sleepQuietly(300);
+            return "완료";
+        });
+
+        //then
+        assertThat(result).isEqualTo("완료");
+        executor.shutdown();
+    }
+
+    @DisplayName("이미 시작한 작업이 더 기다려도 끝나지 않으면 처리되었을 수 있다는 예외가 발생한다.")
+    @Test
+    void startedTaskTimeout() throws Exception {
+        //given
+        ChatRoomExecutor executor = new ChatRoomExecutor(2, 100);
+        AtomicInteger executed = new AtomicInteger();
+
+        //when
+        assertThatThrownBy(() -> executor.call(1L, () -> {
+            sleepQuietly(500);
+            return executed.incrementAndGet();
+        }))
+                .isInstanceOf(ChatRoomCallTimeoutException.class)
+                .extracting("started").isEqualTo(true);
+
+        //then
+        assertThat(executor.submit(1L, executed::get).get(3, TimeUnit.SECONDS)).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void clearCounters(StringRedisTemplate redisTemplate) {
+        List<String> keys = new ArrayList<>();
+        for (int room = 0; room < ROOMS; room++) {
+            keys.add(ChatRoomCounter.KEY_PREFIX + (CHAT_ROOM_ID + room));
+        }
+        redisTemplate.delete(keys);
+        redisTemplate.opsForSet().remove(ChatRoomCounter.DIRTY_KEY,
+                keys.stream().map(key -> key.substring(ChatRoomCounter.KEY_PREFIX.length())).toArray());
+    }
+
+    private ChatRoomUser createChatRoomUser(long userId) {
+        return ChatRoomUser.builder()
+                .chatRoomTitle("채팅방")
+                .userId(userId)
+                .opponentUserType("M")
+                .unreadCount(0)
+                .build();
+    }
+
+    private static boolean isRedisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean awaitQuietly(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.everyschool.chatservice.api.service.chatroom.lookup;
+
+import com.everyschool.chatservice.api.client.SchoolServiceClient;
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatRoomLookupTest {
+
+    private UserServiceClient userServiceClient;
+    private SchoolServiceClient schoolServiceClient;
+    private ChatRoomLookups chatRoomLookups;
+
+    @BeforeEach
+    void setUp() {
+        userServiceClient = mock(UserServiceClient.class);
+        schoolServiceClient = mock(SchoolServiceClient.class);
+        chatRoomLookups = new ChatRoomLookups(userServiceClient, schoolServiceClient, 4, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatRoomLookups.shutdown();
+    }
+
+    @DisplayName("한 요청 안에서 같은 인자로 조회하면 원격 호출은 한 번만 한다.")
+    @Test
+    void memoize() {
+        //given
+        given(userServiceClient.searchUsername(1L, 2L)).willReturn("임우택");
+        ChatRoomLookup lookup = chatRoomLookups.open();
+
+        //when
+        String first = ChatRoomLookup.join(lookup.searchUsername(1L, 2L));
+        String second = ChatRoomLookup.join(lookup.searchUsername(1L, 2L));
+        ChatRoomLookup.join(chatRoomLookups.open().searchUsername(1L, 2L));
+
+        //then
+        assertThat(first).isEqualTo("임우택");
+        assertThat(second).isEqualTo("임우택");
+        verify(userServiceClient, times(2)).searchUsername(1L, 2L);
+    }
+
+    @DisplayName("서로 다른 조회는 동시에 실행된다.")
+    @Test
+    void concurrent() throws InterruptedException {
+        //given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        given(userServiceClient.searchUserInfo("token")).willAnswer(invocation -> awaitOther(bothStarted));
+        given(userServiceClient.searchUserInfoByUserKey("userKey")).willAnswer(invocation -> awaitOther(bothStarted));
+        ChatRoomLookup lookup = chatRoomLookups.open();
+
+        //when
+        CompletableFuture<UserInfo> loginUser = lookup.searchUserInfo("token");
+        CompletableFuture<UserInfo> opponentUser = lookup.searchUserInfoByUserKey("userKey");
+
+        //then
+        assertThat(ChatRoomLookup.join(loginUser)).isNotNull();
+        assertThat(ChatRoomLookup.join(opponentUser)).isNotNull();
+    }
+
+    @DisplayName("원격 호출 예외는 감싸지 않고 그대로 던진다.")
+    @Test
+    void exception() {
+        //given
+        given(userServiceClient.searchUserInfoByUserKey("unknown")).willThrow(new IllegalArgumentException("없는 회원"));
+        ChatRoomLookup lookup = chatRoomLookups.open();
+
+        //when //then
+        assertThatThrownBy(() -> ChatRoomLookup.join(lookup.searchUserInfoByUserKey("unknown")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("없는 회원");
+    }
+
+    private static UserInfo awaitOther(CountDownLatch bothStarted) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("조회가 동시에 실행되지 않았습니다.");
+        }
+        return UserInfo.builder().userId(1L).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.everyschool.chatservice.api.service.chatroom.presence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 Redis(localhost:6379)를 사용하는 테스트
+ * Redis에 연결할 수 없으면 건너뜀
+ */
+class ChatRoomPresenceTest {
+
+    private static final long CHAT_ROOM_ID = 987654321L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "로컬 Redis가 없어 테스트를 건너뜁니다.");
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(ChatRoomPresence.KEY_PREFIX + CHAT_ROOM_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            redisTemplate.delete(ChatRoomPresence.KEY_PREFIX + CHAT_ROOM_ID);
+            connectionFactory.destroy();
+        }
+    }
+
+    @DisplayName("입장과 퇴장 시 현재 채팅방 인원수를 반환하고, 모두 퇴장하면 키가 삭제된다.")
+    @Test
+    void joinAndLeave() {
+        //given
+        ChatRoomPresence presence = new ChatRoomPresence(redisTemplate, 30000);
+
+        //when
+        long afterFirstJoin = presence.join(CHAT_ROOM_ID, 1L);
+        long afterSecondJoin = presence.join(CHAT_ROOM_ID, 2L);
+        long afterDuplicateJoin = presence.join(CHAT_ROOM_ID, 2L);
+        long afterLeave = presence.leave(CHAT_ROOM_ID, 1L);
+        long afterLastLeave = presence.leave(CHAT_ROOM_ID, 2L);
+
+        //then
+        assertThat(afterFirstJoin).isEqualTo(1);
+        assertThat(afterSecondJoin).isEqualTo(2);
+        assertThat(afterDuplicateJoin).isEqualTo(2);
+        assertThat(afterLeave).isEqualTo(1);
+        assertThat(afterLastLeave).isZero();
+        assertThat(redisTemplate.hasKey(ChatRoomPresence.KEY_PREFIX + CHAT_ROOM_ID)).isFalse();
+    }
+
+    @DisplayName("heartbeat로 갱신하지 않은 접속자는 ttl 이후 인원수에서 빠진다.")
+    @Test
+    void expire() throws InterruptedException {
+        //given
+        ChatRoomPresence presence = new ChatRoomPresence(redisTemplate, 300);
+        presence.join(CHAT_ROOM_ID, 1L);
+        presence.join(CHAT_ROOM_ID, 2L);
+
+        //when
+        Thread.sleep(200);
+        presence.refresh(List.of(CHAT_ROOM_ID), 1L);
+        Thread.sleep(200);
+
+        //then
+        assertThat(presence.count(CHAT_ROOM_ID)).isEqualTo(1);
+    }
+
+    private static boolean isRedisAvailable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", 6379), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
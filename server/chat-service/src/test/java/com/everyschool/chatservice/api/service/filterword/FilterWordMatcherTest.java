@@ -0,0 +1,52 @@
+package com.everyschool.chatservice.api.service.filterword;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterWordMatcherTest {
+
+    @DisplayName("메세지에 포함된 필터 단어를 등록 순서대로 모두 찾는다.")
+    @Test
+    void findAll() {
+        //given
+        FilterWordMatcher matcher = FilterWordMatcher.of(List.of("바보", "멍청이", "바보멍", "보멍청"));
+
+        //when
+        List<String> result = matcher.findAll("너는 바보멍청이야 바보");
+
+        //then
+        assertThat(result).containsExactly("바보", "멍청이", "바보멍", "보멍청");
+    }
+
+    @DisplayName("다른 단어의 일부로 겹치는 필터 단어도 찾는다.")
+    @Test
+    void findAllOverlap() {
+        //given
+        FilterWordMatcher matcher = FilterWordMatcher.of(List.of("he", "she", "his", "hers"));
+
+        //when
+        List<String> result = matcher.findAll("ushers");
+
+        //then
+        assertThat(result).containsExactly("he", "she", "hers");
+    }
+
+    @DisplayName("필터 단어가 없으면 빈 목록을 반환한다.")
+    @Test
+    void findAllNotMatched() {
+        //given
+        FilterWordMatcher matcher = FilterWordMatcher.of(List.of("비속어", ""));
+
+        //when
+        List<String> result = matcher.findAll("평범한 대화");
+
+        //then
+        assertThat(result).isEmpty();
+        assertThat(FilterWordMatcher.of(Collections.emptyList()).findAll("비속어")).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.everyschool.chatservice.config;
+
+import com.everyschool.chatservice.api.service.chatroom.ChatRoomService;
+import com.everyschool.chatservice.config.auth.StompAuthenticator;
+import com.everyschool.chatservice.config.auth.StompUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class StompHandlerTest {
+
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+    private final StompAuthenticator stompAuthenticator = mock(StompAuthenticator.class);
+    private final StompHandler stompHandler = new StompHandler(chatRoomService, stompAuthenticator);
+
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+
+    @DisplayName("CONNECT에서 확인한 사용자를 세션에 저장하고 SUBSCRIBE마다 다시 사용한다.")
+    @Test
+    void reuseConnectedUser() {
+        //given
+        given(stompAuthenticator.authenticate("jwt"))
+                .willReturn(StompUser.builder().userKey("user-key").userId(1L).userName("신짱구").build());
+
+        //when
+        stompHandler.preSend(createFrame(StompCommand.CONNECT, null, "jwt"), null);
+        stompHandler.preSend(createFrame(StompCommand.SUBSCRIBE, "/sub/chat/room/10", null), null);
+        stompHandler.preSend(createFrame(StompCommand.SUBSCRIBE, "/sub/chat/room/20", "jwt"), null);
+
+        //then
+        verify(stompAuthenticator, times(1)).authenticate(anyString());
+        verify(chatRoomService).connectChatRoom(10L, 1L);
+        verify(chatRoomService).connectChatRoom(20L, 1L);
+        assertThat(StompUser.from(sessionAttributes).getUserKey()).isEqualTo("user-key");
+    }
+
+    @DisplayName("CONNECT에 토큰이 없으면 첫 SUBSCRIBE에서 확인한다.")
+    @Test
+    void authenticateOnFirstSubscribe() {
+        //given
+        given(stompAuthenticator.authenticate("jwt"))
+                .willReturn(StompUser.builder().userKey("user-key").userId(1L).build());
+
+        //when
+        stompHandler.preSend(createFrame(StompCommand.CONNECT, null, null), null);
+        stompHandler.preSend(createFrame(StompCommand.SUBSCRIBE, "/sub/chat/room/10", "jwt"), null);
+        stompHandler.preSend(createFrame(StompCommand.SUBSCRIBE, "/sub/chat/room/20", "jwt"), null);
+
+        //then
+        verify(stompAuthenticator, times(1)).authenticate("jwt");
+        verify(chatRoomService).connectChatRoom(20L, 1L);
+    }
+
+    @DisplayName("세션 사용자가 없는 SEND는 프레임의 토큰으로 확인하고 세션에 저장한다.")
+    @Test
+    void authenticateOnSend() {
+        //given
+        given(stompAuthenticator.authenticate("jwt"))
+                .willReturn(StompUser.builder().userKey("user-key").userId(1L).build());
+
+        //when
+        stompHandler.preSend(createFrame(StompCommand.SEND, "/pub/chat.send", "jwt"), null);
+        stompHandler.preSend(createFrame(StompCommand.SEND, "/pub/chat.send", null), null);
+
+        //then
+        verify(stompAuthenticator, times(1)).authenticate("jwt");
+        assertThat(StompUser.from(sessionAttributes).getUserKey()).isEqualTo("user-key");
+    }
+
+    @DisplayName("세션 사용자도 토큰도 없는 SEND는 거부한다.")
+    @Test
+    void rejectSendWithoutUser() {
+        //given
+        given(stompAuthenticator.authenticate(null))
+                .willThrow(new IllegalArgumentException("인증 토큰이 없습니다."));
+
+        //when //then
+        assertThatThrownBy(() -> stompHandler.preSend(createFrame(StompCommand.SEND, "/pub/chat.send", null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증 토큰이 없습니다.");
+        assertThat(StompUser.from(sessionAttributes)).isNull();
+    }
+
+    private Message<byte[]> createFrame(StompCommand command, String destination, String jwt) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(sessionAttributes);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (jwt != null) {
+            accessor.setNativeHeader("Authorization", jwt);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,113 @@
+package com.everyschool.chatservice.config.auth;
+
+import com.everyschool.chatservice.api.client.UserServiceClient;
+import com.everyschool.chatservice.api.client.response.UserInfo;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class StompAuthenticatorTest {
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final StompAuthenticator stompAuthenticator = new StompAuthenticator(userServiceClient,
+            Encoders.BASE64.encode(key.getEncoded()), 60_000L, 100, now::get);
+
+    @DisplayName("JWT를 직접 검증하고, 회원 정보는 캐시 시간 동안 한 번만 조회한다.")
+    @Test
+    void authenticate() {
+        //given
+        given(userServiceClient.searchUserInfoByUserKey("user-key"))
+                .willReturn(UserInfo.builder().userId(1L).userName("신짱구").userType('M').build());
+        String token = createToken("user-key", new Date(System.currentTimeMillis() + 60_000L));
+
+        //when
+        StompUser first = stompAuthenticator.authenticate("Bearer " + token);
+        StompUser second = stompAuthenticator.authenticate(token);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(60_000L));
+        stompAuthenticator.authenticate(token);
+
+        //then
+        assertThat(first.getUserKey()).isEqualTo("user-key");
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(second.getUserName()).isEqualTo("신짱구");
+        verify(userServiceClient, times(2)).searchUserInfoByUserKey("user-key");
+        verify(userServiceClient, never()).searchUserInfo(anyString());
+    }
+
+    @DisplayName("서명이 다르거나 만료된 토큰은 user-service를 호출하지 않고 거절한다.")
+    @Test
+    void authenticateWithInvalidToken() {
+        String forged = Jwts.builder()
+                .setSubject("user-key")
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256), SignatureAlgorithm.HS256)
+                .compact();
+        String expired = createToken("user-key", new Date(System.currentTimeMillis() - 1_000L));
+
+        assertThatThrownBy(() -> stompAuthenticator.authenticate(forged))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 토큰입니다.");
+        assertThatThrownBy(() -> stompAuthenticator.authenticate(expired))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 토큰입니다.");
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @DisplayName("token.secret이 없으면 user-service로 토큰을 확인하고, 확인된 토큰에서 회원 키를 읽는다.")
+    @Test
+    void authenticateWithoutSecret() {
+        //given
+        StompAuthenticator withoutSecret = new StompAuthenticator(userServiceClient, "", 60_000L, 100, now::get);
+        String token = "Bearer " + createToken("user-key", new Date(System.currentTimeMillis() + 60_000L));
+        given(userServiceClient.searchUserInfo(token))
+                .willReturn(UserInfo.builder().userId(1L).build());
+
+        //when
+        StompUser user = withoutSecret.authenticate(token);
+
+        //then
+        assertThat(user.getUserId()).isEqualTo(1L);
+        assertThat(user.getUserKey()).isEqualTo("user-key");
+    }
+
+    @DisplayName("캐시가 가득 차도 전부 비우지 않고 최대 개수만큼 회원 정보를 유지한다.")
+    @Test
+    void evictUsersOverMaxSize() {
+        //given
+        StompAuthenticator smallCache = new StompAuthenticator(userServiceClient,
+                Encoders.BASE64.encode(key.getEncoded()), 60_000L, 2, now::get);
+        given(userServiceClient.searchUserInfoByUserKey(anyString()))
+                .willReturn(UserInfo.builder().userId(1L).build());
+        Date expiration = new Date(System.currentTimeMillis() + 60_000L);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            smallCache.authenticate(createToken("user-key-" + i, expiration));
+        }
+
+        //then
+        assertThat(smallCache.getCachedUserCount()).isEqualTo(2);
+    }
+
+    private String createToken(String userKey, Date expiration) {
+        return Jwts.builder()
+                .setSubject(userKey)
+                .setExpiration(expiration)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
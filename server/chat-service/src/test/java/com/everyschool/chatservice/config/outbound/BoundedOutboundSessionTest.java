@@ -0,0 +1,109 @@
+package com.everyschool.chatservice.config.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+class BoundedOutboundSessionTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundMetrics metrics = new OutboundMetrics(meterRegistry);
+    private final OutboundFramePolicy policy = new OutboundFramePolicy();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("큐가 가득 차면 heartbeat를 먼저 버린다.")
+    @Test
+    void dropDroppableFirst() throws Exception {
+        //given
+        WebSocketSession delegate = blockingSession();
+        BoundedOutboundSession session = new BoundedOutboundSession(delegate, 3, Integer.MAX_VALUE, policy, metrics, executor);
+        session.sendMessage(chatFrame("1"));
+        verify(delegate, timeout(1000)).sendMessage(any());
+
+        //when
+        session.sendMessage(new TextMessage("\n"));
+        session.sendMessage(new TextMessage("\n"));
+        session.sendMessage(chatFrame("2"));
+        session.sendMessage(chatFrame("3"));
+        session.sendMessage(chatFrame("4"));
+
+        //then
+        assertThat(session.getQueueDepth()).isEqualTo(3);
+        assertThat(session.getDroppedFrames()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.websocket.outbound.dropped").count()).isEqualTo(2);
+        verify(delegate, never()).close(any());
+    }
+
+    @DisplayName("버릴 프레임이 없는데 큐가 가득 차면 SLOW_CONSUMER로 연결을 종료한다.")
+    @Test
+    void closeWhenOverflow() throws Exception {
+        //given
+        WebSocketSession delegate = blockingSession();
+        BoundedOutboundSession session = new BoundedOutboundSession(delegate, 2, Integer.MAX_VALUE, policy, metrics, executor);
+        session.sendMessage(chatFrame("1"));
+        verify(delegate, timeout(1000)).sendMessage(any());
+
+        //when
+        session.sendMessage(chatFrame("2"));
+        session.sendMessage(chatFrame("3"));
+        session.sendMessage(chatFrame("4"));
+        session.sendMessage(chatFrame("5"));
+
+        //then
+        verify(delegate, times(1)).close(BoundedOutboundSession.SLOW_CONSUMER);
+        assertThat(session.getQueueDepth()).isZero();
+        assertThat(meterRegistry.counter("chat.websocket.outbound.disconnected", "reason", "overflow").count()).isEqualTo(1);
+    }
+
+    @DisplayName("전송 한 건이 제한 시간보다 오래 걸리면 연결을 종료한다.")
+    @Test
+    void closeWhenSendTimeout() throws Exception {
+        //given
+        WebSocketSession delegate = blockingSession();
+        BoundedOutboundSession session = new BoundedOutboundSession(delegate, 10, Integer.MAX_VALUE, policy, metrics, executor);
+        session.sendMessage(chatFrame("1"));
+        verify(delegate, timeout(1000)).sendMessage(any());
+
+        //when
+        Thread.sleep(20);
+        session.checkSendTime(TimeUnit.MILLISECONDS.toNanos(10));
+
+        //then
+        verify(delegate, times(1)).close(BoundedOutboundSession.SLOW_CONSUMER);
+    }
+
+    private WebSocketSession blockingSession() throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("session-1");
+        willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(delegate).sendMessage(any());
+        return delegate;
+    }
+
+    private static TextMessage chatFrame(String chatId) {
+        return new TextMessage("MESSAGE\ndestination:/sub/1\ncontent-type:application/json\n\n{\"chatId\":" + chatId + "}\u0000");
+    }
+}
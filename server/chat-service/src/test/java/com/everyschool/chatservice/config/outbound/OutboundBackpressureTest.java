@@ -0,0 +1,74 @@
+package com.everyschool.chatservice.config.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+class OutboundBackpressureTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final OutboundBackpressure backpressure = new OutboundBackpressure(new SimpleMeterRegistry(),
+            200, Integer.MAX_VALUE, 10000, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        backpressure.shutdown();
+    }
+
+    @DisplayName("전송이 막힌 세션이 유지 스레드 수보다 많아도 다른 세션의 메세지는 전송된다.")
+    @Test
+    void slowSessionDoesNotBlockOthers() throws Exception {
+        //given
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        WebSocketHandler decorated = backpressure.decorate(handler);
+        WebSocketSession slow1 = session("slow-1", true);
+        WebSocketSession slow2 = session("slow-2", true);
+        WebSocketSession fast = session("fast", false);
+
+        //when
+        outbound(decorated, handler, slow1).sendMessage(chatFrame());
+        outbound(decorated, handler, slow2).sendMessage(chatFrame());
+        verify(slow1, timeout(1000)).sendMessage(any());
+        verify(slow2, timeout(1000)).sendMessage(any());
+        outbound(decorated, handler, fast).sendMessage(chatFrame());
+
+        //then
+        verify(fast, timeout(1000)).sendMessage(any());
+    }
+
+    private WebSocketSession outbound(WebSocketHandler decorated, WebSocketHandler handler, WebSocketSession session) throws Exception {
+        decorated.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler, atLeastOnce()).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+
+    private WebSocketSession session(String id, boolean blocking) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        if (blocking) {
+            willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).given(session).sendMessage(any());
+        }
+        return session;
+    }
+
+    private static TextMessage chatFrame() {
+        return new TextMessage("MESSAGE\ndestination:/sub/1\n\n{}\u0000");
+    }
+}
@@ -0,0 +1,124 @@
+package com.everyschool.chatservice.config.ratelimit;
+
+import com.everyschool.chatservice.config.auth.StompUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SendRateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final SendRateLimitInterceptor interceptor = new SendRateLimitInterceptor(meterRegistry,
+            List.of("/pub/chat.send"), 3, 2, 100, now::get);
+
+    @DisplayName("한도만큼 연속 전송한 뒤에는 ERROR로 거절하고, 시간이 지나면 다시 허용한다.")
+    @Test
+    void rejectOverLimit() {
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1"), null);
+        }
+
+        assertThatThrownBy(() -> interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1"), null))
+                .isInstanceOf(MessageDeliveryException.class)
+                .hasMessageContaining("채팅 전송 한도를 초과했습니다.");
+        // 다른 사용자와 제한 대상이 아닌 주소는 영향 없음
+        interceptor.preSend(createSend("/pub/chat.send", "user-b", "s1"), null);
+        interceptor.preSend(createSend("/pub/chat.unsub.1", "user-a", "s1"), null);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1"), null);
+        assertThat(meterRegistry.get("chat.websocket.inbound.rate-limited").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("다 찰 만큼 사용하지 않은 버킷은 정리한다.")
+    @Test
+    void evictIdleBuckets() {
+        interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1"), null);
+        interceptor.preSend(createSend("/pub/chat.send", null, "s2"), null);
+        assertThat(interceptor.getBucketCount()).isEqualTo(2);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(interceptor.getBucketCount()).isZero();
+    }
+
+    @DisplayName("메세지 본문의 senderUserKey를 바꿔도 같은 세션 사용자의 한도를 피할 수 없다.")
+    @Test
+    void ignoreSenderUserKeyInPayload() {
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1", "spoof-" + i), null);
+        }
+
+        assertThatThrownBy(() -> interceptor.preSend(createSend("/pub/chat.send", "user-a", "s1", "spoof-new"), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        // 확인된 사용자가 없으면 세션 Id로 제한
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(createSend("/pub/chat.send", null, "s2", "spoof-" + i), null);
+        }
+        assertThatThrownBy(() -> interceptor.preSend(createSend("/pub/chat.send", null, "s2", "spoof-new"), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(interceptor.getBucketCount()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 스레드가 동시에 같은 버킷을 사용해도 정확히 용량만큼만 허용한다.")
+    @Test
+    void tokenBucketUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(1_000, TimeUnit.MILLISECONDS.toNanos(100), 0);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    if (bucket.tryAcquire(0)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acquired).hasValue(1_000);
+    }
+
+    private Message<byte[]> createSend(String destination, String userKey, String sessionId) {
+        return createSend(destination, userKey, sessionId, userKey);
+    }
+
+    private Message<byte[]> createSend(String destination, String userKey, String sessionId, String senderUserKey) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setSessionId(sessionId);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        if (userKey != null) {
+            StompUser.builder().userKey(userKey).userId(1L).userName("신성주").userType('M').build()
+                    .saveTo(sessionAttributes);
+        }
+        accessor.setSessionAttributes(sessionAttributes);
+        String payload = senderUserKey == null
+                ? "{\"chatRoomId\":1,\"message\":\"안녕\"}"
+                : "{\"chatRoomId\":1,\"senderUserKey\":\"" + senderUserKey + "\",\"message\":\"안녕\"}";
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
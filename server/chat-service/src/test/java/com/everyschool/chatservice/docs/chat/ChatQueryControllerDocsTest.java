@@ -5,7 +5,10 @@ import com.everyschool.chatservice.api.controller.chat.response.ChatResponse;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChat;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChatResponse;
 import com.everyschool.chatservice.api.controller.chat.response.WarningChatReviewResponse;
+import com.everyschool.chatservice.api.service.chat.ChatExportService;
 import com.everyschool.chatservice.api.service.chat.ChatQueryService;
+import com.everyschool.chatservice.api.service.chat.ChatSyncService;
+import com.everyschool.chatservice.api.service.chat.search.ChatSearchService;
 import com.everyschool.chatservice.docs.RestDocsSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -230,9 +233,12 @@ public class ChatQueryControllerDocsTest extends RestDocsSupport {
     }
 
     private final ChatQueryService chatQueryService = mock(ChatQueryService.class);
+    private final ChatSyncService chatSyncService = mock(ChatSyncService.class);
+    private final ChatExportService chatExportService = mock(ChatExportService.class);
+    private final ChatSearchService chatSearchService = mock(ChatSearchService.class);
 
     @Override
     protected Object initController() {
-        return new ChatQueryController(chatQueryService);
+        return new ChatQueryController(chatQueryService, chatSyncService, chatExportService, chatSearchService);
     }
 }
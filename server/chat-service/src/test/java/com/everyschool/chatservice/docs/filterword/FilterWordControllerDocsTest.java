@@ -4,6 +4,7 @@ import com.everyschool.chatservice.api.controller.chat.request.ChatMessage;
 import com.everyschool.chatservice.api.controller.filterword.FilterWordController;
 import com.everyschool.chatservice.api.controller.filterword.request.CreateFilterWordRequest;
 import com.everyschool.chatservice.api.controller.filterword.response.ChatFilterResponse;
+import com.everyschool.chatservice.api.service.chatroom.executor.ChatRoomExecutor;
 import com.everyschool.chatservice.api.service.filterword.FilterWordService;
 import com.everyschool.chatservice.api.service.filterword.dto.CreateFilterWordDto;
 import com.everyschool.chatservice.docs.RestDocsSupport;
@@ -124,6 +125,6 @@ public class FilterWordControllerDocsTest extends RestDocsSupport {
 
     @Override
     protected Object initController() {
-        return new FilterWordController(filterWordService);
+        return new FilterWordController(filterWordService, new ChatRoomExecutor(1, 5000));
     }
 }
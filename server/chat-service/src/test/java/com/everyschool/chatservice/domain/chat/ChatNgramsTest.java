@@ -0,0 +1,30 @@
+package com.everyschool.chatservice.domain.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatNgramsTest {
+
+    @DisplayName("단어마다 연속한 두 글자를 만들고, 한 글자 단어는 그대로 사용한다.")
+    @Test
+    void of() {
+        assertThat(ChatNgrams.of("내일 3시에 상담, 가능할까요? 네"))
+                .containsExactly("내일", "3시", "시에", "상담", "가능", "능할", "할까", "까요", "네");
+    }
+
+    @DisplayName("영문은 소문자로 바꾸고 중복 bigram은 한 번만 포함한다.")
+    @Test
+    void ofWithDuplicates() {
+        assertThat(ChatNgrams.of("OK ok 하하하"))
+                .containsExactly("ok", "하하");
+    }
+
+    @DisplayName("검색어에 두 글자 이상 단어가 있으면 한 글자 단어는 bigram에서 제외한다.")
+    @Test
+    void ofKeyword() {
+        assertThat(ChatNgrams.ofKeyword("3 월요일")).containsExactly("월요", "요일");
+        assertThat(ChatNgrams.ofKeyword("3 일")).containsExactly("3", "일");
+    }
+}
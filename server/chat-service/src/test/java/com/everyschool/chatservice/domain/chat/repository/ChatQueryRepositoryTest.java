@@ -0,0 +1,69 @@
+package com.everyschool.chatservice.domain.chat.repository;
+
+import com.mongodb.client.DistinctIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ChatQueryRepositoryTest {
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("채팅방 Id 중복 제거 조회 조건의 날짜는 저장할 때와 같은 시간대의 Date로 변환한다.")
+    @Test
+    void findDistinctChatRoomIdsByCreatedDateBetween() {
+        //given
+        MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        MongoOperations mongoOperations = mock(MongoOperations.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        DistinctIterable<Long> distinct = mock(DistinctIterable.class);
+        given(mongoOperations.getConverter()).willReturn(converter);
+        given(mongoOperations.getCollectionName(any())).willReturn("chat");
+        given(mongoOperations.getCollection(anyString())).willReturn(collection);
+        given(collection.distinct(eq("chat_room_id"), any(Bson.class), eq(Long.class))).willReturn(distinct);
+        given(distinct.iterator()).willReturn(mock(MongoCursor.class));
+
+        LocalDateTime start = LocalDateTime.of(2023, 11, 1, 0, 0);
+        LocalDateTime end = start.plusDays(1);
+
+        //when
+        try (Stream<Long> chatRoomIds = new ChatQueryRepository(mongoOperations).findDistinctChatRoomIdsByCreatedDateBetween(start, end)) {
+            chatRoomIds.count();
+        }
+
+        //then
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+        verify(collection).distinct(eq("chat_room_id"), filter.capture(), eq(Long.class));
+        Document createdDate = (Document) ((Document) filter.getValue()).get("createdDate");
+        assertThat(createdDate.get("$gt")).isEqualTo(Date.from(start.atZone(ZoneId.systemDefault()).toInstant()));
+        assertThat(createdDate.get("$lt")).isEqualTo(Date.from(end.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+}
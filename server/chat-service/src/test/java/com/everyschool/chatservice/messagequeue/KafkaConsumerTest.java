@@ -0,0 +1,78 @@
+package com.everyschool.chatservice.messagequeue;
+
+import com.everyschool.chatservice.api.service.chat.ChatMongoService;
+import com.everyschool.chatservice.domain.chat.repository.ChatReviewRepository;
+import com.everyschool.chatservice.domain.chatroom.repository.ChatRoomRepository;
+import com.everyschool.chatservice.domain.filterword.Reason;
+import com.everyschool.chatservice.domain.filterword.repository.ReasonRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class KafkaConsumerTest {
+
+    private final ChatMongoService chatMongoService = mock(ChatMongoService.class);
+    private final ReasonRepository reasonRepository = mock(ReasonRepository.class);
+    private final KafkaConsumer kafkaConsumer = new KafkaConsumer(chatMongoService, reasonRepository,
+            mock(ChatReviewRepository.class), mock(ChatRoomRepository.class));
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("한 번에 받은 부적절 채팅 메세지는 상태 변경 한 번, 사유 저장 한 번으로 반영한다.")
+    @Test
+    void updateExp() {
+        //given
+        List<String> kafkaMessages = List.of(
+                "{\"chatId\":1,\"chatRoomId\":10,\"reason\":\"욕설\"}",
+                "{\"chatId\":2,\"chatRoomId\":10,\"reason\":\"협박\"}",
+                "{\"chatId\":1,\"reason\":\"비하\"}");
+
+        //when
+        kafkaConsumer.updateExp(kafkaMessages);
+
+        //then
+        ArgumentCaptor<Collection<Long>> chatIds = ArgumentCaptor.forClass(Collection.class);
+        verify(chatMongoService, times(1)).updateWarningChats(chatIds.capture());
+        assertThat(chatIds.getValue()).containsExactly(1L, 2L);
+
+        ArgumentCaptor<List<Reason>> reasons = ArgumentCaptor.forClass(List.class);
+        verify(reasonRepository, times(1)).saveAll(reasons.capture());
+        assertThat(reasons.getValue())
+                .extracting("chatId", "filterReason")
+                .containsExactly(
+                        tuple(1L, "욕설"),
+                        tuple(2L, "협박"),
+                        tuple(1L, "비하")
+                );
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("읽을 수 없는 메세지가 섞여 있어도 나머지 메세지는 반영한다.")
+    @Test
+    void updateExpWithMalformedMessage() {
+        //given
+        List<String> kafkaMessages = List.of(
+                "{\"chatId\":1,\"chatRoomId\":10,\"reason\":\"욕설\"}",
+                "{\"chatId\":",
+                "{\"reason\":\"채팅 Id 없음\"}",
+                "{\"chatId\":2,\"reason\":\"협박\"}");
+
+        //when
+        kafkaConsumer.updateExp(kafkaMessages);
+
+        //then
+        ArgumentCaptor<Collection<Long>> chatIds = ArgumentCaptor.forClass(Collection.class);
+        verify(chatMongoService, times(1)).updateWarningChats(chatIds.capture());
+        assertThat(chatIds.getValue()).containsExactly(1L, 2L);
+
+        ArgumentCaptor<List<Reason>> reasons = ArgumentCaptor.forClass(List.class);
+        verify(reasonRepository, times(1)).saveAll(reasons.capture());
+        assertThat(reasons.getValue()).hasSize(2);
+    }
+}
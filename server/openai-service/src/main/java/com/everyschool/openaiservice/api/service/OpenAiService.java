@@ -92,6 +92,7 @@ public class OpenAiService {
             String[] reason = result[i].split(":");
             kafkaProducer.send("update-chat-topic", ChatUpdateDto.builder()
                     .chatId(Long.valueOf(reason[0]))
+                    .chatRoomId(chats.get(0).getChatRoomId())
                     .reason(reason[1])
                     .build());
         }
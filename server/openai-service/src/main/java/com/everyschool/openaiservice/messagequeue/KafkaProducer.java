@@ -27,7 +27,8 @@ public class KafkaProducer {
             throw new RuntimeException(e);
         }
 
-        kafkaTemplate.send(topic, jsonInString);
+        // 같은 채팅방 메세지는 같은 파티션으로 보내서 순서 유지
+        kafkaTemplate.send(topic, String.valueOf(dto.getChatRoomId()), jsonInString);
         log.info("[카프카] 채팅 업데이트. id = {}, 사유 = {} ", dto.getChatId(), dto.getReason());
 
         return dto;
@@ -6,11 +6,13 @@ import lombok.Data;
 @Data
 public class ChatUpdateDto {
     private Long chatId;
+    private Long chatRoomId;
     private String reason;
 
     @Builder
-    private ChatUpdateDto(Long chatId, String reason) {
+    private ChatUpdateDto(Long chatId, Long chatRoomId, String reason) {
         this.chatId = chatId;
+        this.chatRoomId = chatRoomId;
         this.reason = reason;
     }
 }
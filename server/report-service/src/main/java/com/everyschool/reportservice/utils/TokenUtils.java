@@ -1,39 +1,120 @@
 package com.everyschool.reportservice.utils;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
 
-@RequiredArgsConstructor
+/**
+ * 요청한 회원 키 조회
+ * 게이트웨이가 토큰을 검증하고 서명한 X-User-Key 헤더가 있으면 서명만 확인해서 사용하고, 없으면 토큰을 직접 검증함
+ */
 @Component
 public class TokenUtils {
 
+    private static final String USER_KEY = "X-User-Key";
+    private static final String ISSUED_AT = "X-User-Key-Issued-At";
+    private static final String SIGNATURE = "X-User-Key-Signature";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final long DEFAULT_MAX_AGE_MILLIS = 60_000L;
+
     private final Environment env;
+    private final JwtParser parser;
+    private final SecretKeySpec identityKey;
+    private final long identityMaxAgeMillis;
+
+    public TokenUtils(Environment env) {
+        this.env = env;
+        String secret = env.getProperty("token.secret");
+        this.parser = StringUtils.hasText(secret) ? createParser(secret) : null;
+        String identitySecret = env.getProperty("gateway.identity.secret", secret == null ? "" : secret);
+        this.identityKey = StringUtils.hasText(identitySecret)
+            ? new SecretKeySpec(identitySecret.getBytes(StandardCharsets.UTF_8), ALGORITHM)
+            : null;
+        this.identityMaxAgeMillis = env.getProperty("gateway.identity.max-age-ms", Long.class, DEFAULT_MAX_AGE_MILLIS);
+    }
 
     public String getUserKey() {
-        String token = getTokenByHeader();
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+
+        String userKey = getVerifiedUserKey(request);
+        if (userKey != null) {
+            return userKey;
+        }
+
+        String token = getTokenByHeader(request);
 
         return getSubject(token);
     }
 
-    private String getTokenByHeader() {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    /**
+     * 게이트웨이가 서명한 회원 키
+     *
+     * @return 서명이 맞고 max-age 안에 발급된 경우 회원 키, 아니면 null
+     */
+    private String getVerifiedUserKey(HttpServletRequest request) {
+        String userKey = request.getHeader(USER_KEY);
+        String issuedAt = request.getHeader(ISSUED_AT);
+        String signature = request.getHeader(SIGNATURE);
+        if (identityKey == null || userKey == null || issuedAt == null || signature == null) {
+            return null;
+        }
+
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(issuedAt);
+            if (Math.abs(age) > identityMaxAgeMillis) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
 
+        byte[] expected = sign(userKey + "." + issuedAt).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+        return userKey;
+    }
+
+    private String getTokenByHeader(HttpServletRequest request) {
         String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-        return authorizationHeader.replace("Bearer", "");
+        return authorizationHeader.replace("Bearer", "").trim();
     }
 
     private String getSubject(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(env.getProperty("token.secret"))
-            .build().parseClaimsJws(token).getBody()
+        JwtParser jwtParser = parser != null ? parser : createParser(env.getProperty("token.secret"));
+        return jwtParser.parseClaimsJws(token).getBody()
             .getSubject();
     }
+
+    private static JwtParser createParser(String secret) {
+        return Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+            .build();
+    }
+
+    private String sign(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(identityKey);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
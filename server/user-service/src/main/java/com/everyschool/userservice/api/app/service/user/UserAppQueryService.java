@@ -8,8 +8,11 @@ import com.everyschool.userservice.api.client.school.SchoolServiceClient;
 import com.everyschool.userservice.api.client.school.response.DescendantInfo;
 import com.everyschool.userservice.api.client.school.response.SchoolClassInfo;
 import com.everyschool.userservice.api.client.school.response.StudentInfo;
+import com.everyschool.userservice.api.service.user.cache.ContactInfoCache;
+import com.everyschool.userservice.api.service.user.cache.SchoolInfoCache;
 import com.everyschool.userservice.domain.user.Parent;
 import com.everyschool.userservice.domain.user.Student;
+import com.everyschool.userservice.domain.user.StudentParent;
 import com.everyschool.userservice.domain.user.Teacher;
 import com.everyschool.userservice.domain.user.User;
 import com.everyschool.userservice.domain.user.repository.StudentParentAppQueryRepository;
@@ -39,6 +42,8 @@ public class UserAppQueryService {
     private final UserRepository userRepository;
     private final StudentParentAppQueryRepository studentParentAppQueryRepository;
     private final SchoolServiceClient schoolServiceClient;
+    private final ContactInfoCache contactInfoCache;
+    private final SchoolInfoCache schoolInfoCache;
 
     /**
      * 학생 회원 정보 조회
@@ -88,7 +93,7 @@ public class UserAppQueryService {
         }
 
         //학급 정보 조회
-        SchoolClassInfo schoolClassInfo = schoolServiceClient.searchBySchoolClassId(student.getSchoolClassId());
+        SchoolClassInfo schoolClassInfo = schoolInfoCache.getSchoolClassInfo(student.getSchoolClassId());
 
         //학교 정보 생성
         School school = School.of(student.getSchoolId(), schoolClassInfo.getSchoolName());
@@ -137,11 +142,8 @@ public class UserAppQueryService {
                 .collect(Collectors.toList());
 
         //학생(자식)의 학급 정보 조회
-        List<DescendantInfo> descendantInfos = schoolServiceClient.searchByUserId(studentIds);
-
         //key: 학생 아이디, value: 학생(자식) 학급 정보
-        Map<Long, DescendantInfo> map = descendantInfos.stream()
-                .collect(Collectors.toMap(DescendantInfo::getUserId, descendantInfo -> descendantInfo, (a, b) -> b));
+        Map<Long, DescendantInfo> map = schoolInfoCache.getDescendantInfos(studentIds);
 
         //학생(자식) 회원 정보 생성
         List<Descendant> descendants = new ArrayList<>();
@@ -179,7 +181,7 @@ public class UserAppQueryService {
         Teacher teacher = convertToTeacher(user);
 
         //학급 정보 조회
-        SchoolClassInfo schoolClassInfo = schoolServiceClient.searchBySchoolClassId(teacher.getSchoolClassId());
+        SchoolClassInfo schoolClassInfo = schoolInfoCache.getSchoolClassInfo(teacher.getSchoolClassId());
 
         //학교 정보 생성
         School school = School.of(teacher.getSchoolId(), schoolClassInfo.getSchoolName());
@@ -209,12 +211,25 @@ public class UserAppQueryService {
 
     /**
      * 학급 인원 연락처 목록 조회
+     * (교직원 고유키, 학년도) 별로 캐시함
      *
      * @param teacherKey 교직원 고유키
      * @param schoolYear 학년도
      * @return 조회된 학급 인원 연락처 목록
      */
     public List<StudentContactInfoResponse> searchContactInfos(String teacherKey, int schoolYear) {
+        return contactInfoCache.get(teacherKey, schoolYear, () -> createContactInfos(teacherKey, schoolYear));
+    }
+
+    /**
+     * 학급 인원 연락처 목록 생성
+     * 학생과 학부모는 학급 인원 수와 관계없이 각각 한 번씩 조회함
+     *
+     * @param teacherKey 교직원 고유키
+     * @param schoolYear 학년도
+     * @return 생성된 학급 인원 연락처 목록
+     */
+    private List<StudentContactInfoResponse> createContactInfos(String teacherKey, int schoolYear) {
         User teacher = getUserByUserKey(teacherKey);
 
         //내 학급의 학생 정보 조회
@@ -226,10 +241,18 @@ public class UserAppQueryService {
 
         //회원(학생) 아이디를 리스트로 전환
         List<Long> temp = new ArrayList<>(map.keySet());
+        if (temp.isEmpty()) {
+            return new ArrayList<>();
+        }
 
         //회원(학생) 아이디로 회원(학생) 엔티티 목록 조회
         List<User> students = userRepository.findByIdIn(temp);
 
+        //key: 회원(학생) 아이디, value: 학부모 엔티티 목록
+        Map<Long, List<Parent>> parentMap = studentParentAppQueryRepository.findWithParentByStudentIdIn(temp).stream()
+                .collect(Collectors.groupingBy(studentParent -> studentParent.getStudent().getId(),
+                        Collectors.mapping(StudentParent::getParent, Collectors.toList())));
+
         //학급 인원 연락처 목록 생성
         List<StudentContactInfoResponse> responses = new ArrayList<>();
         for (User user : students) {
@@ -241,7 +264,7 @@ public class UserAppQueryService {
             responses.add(response);
 
             //학부모 연락처 생성
-            List<Parent> parents = studentParentAppQueryRepository.findByStudentId(student.getId());
+            List<Parent> parents = parentMap.getOrDefault(student.getId(), Collections.emptyList());
             for (Parent parent : parents) {
                 StudentContactInfoResponse.Parent parentResponse = createStudentContactInfoResponseInnerParent(parent);
                 response.getParents().add(parentResponse);
@@ -1,6 +1,8 @@
 package com.everyschool.userservice.api.controller.client;
 
+import com.everyschool.userservice.api.controller.client.request.UserFcmInfoRequest;
 import com.everyschool.userservice.api.controller.client.response.StudentParentInfo;
+import com.everyschool.userservice.api.controller.client.response.UserFcmInfo;
 import com.everyschool.userservice.api.controller.client.response.UserResponse;
 import com.everyschool.userservice.api.controller.client.response.UserInfo;
 import com.everyschool.userservice.api.service.user.AccountService;
@@ -125,6 +127,22 @@ public class UserClientController {
         return fcmToken;
     }
 
+    /**
+     * 회원 고유키 또는 회원 PK 목록으로 회원 정보와 FCM 토큰 한 번에 조회 API
+     *
+     * @param request 회원 고유키 목록과 회원 PK 목록
+     * @return 회원 정보와 FCM 토큰 목록
+     */
+    @PostMapping("/user-fcm-infos")
+    public List<UserFcmInfo> searchUserFcmInfos(@RequestBody UserFcmInfoRequest request) {
+        log.debug("call UserClientController#searchUserFcmInfos");
+
+        List<UserFcmInfo> infos = userQueryService.searchUserFcmInfos(request.getUserKeys(), request.getUserIds());
+        log.debug("result size={}", infos.size());
+
+        return infos;
+    }
+
     @GetMapping("/user-info/{userId}/user-response")
     public UserResponse searchUserById(@PathVariable(name = "userId") Long userId) {
 
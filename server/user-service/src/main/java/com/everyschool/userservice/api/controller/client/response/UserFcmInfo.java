@@ -0,0 +1,39 @@
+package com.everyschool.userservice.api.controller.client.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserFcmInfo {
+
+    private Long userId;
+    private String userKey;
+    private char userType;
+    private String userName;
+    private Long schoolClassId;
+    private String fcmToken;
+
+    @Builder
+    private UserFcmInfo(Long userId, String userKey, char userType, String userName, Long schoolClassId, String fcmToken) {
+        this.userId = userId;
+        this.userKey = userKey;
+        this.userType = userType;
+        this.userName = userName;
+        this.schoolClassId = schoolClassId;
+        this.fcmToken = fcmToken;
+    }
+
+    public static UserFcmInfo of(UserInfo userInfo, String userKey, String fcmToken) {
+        return UserFcmInfo.builder()
+            .userId(userInfo.getUserId())
+            .userKey(userKey)
+            .userType(userInfo.getUserType())
+            .userName(userInfo.getUserName())
+            .schoolClassId(userInfo.getSchoolClassId())
+            .fcmToken(fcmToken)
+            .build();
+    }
+}
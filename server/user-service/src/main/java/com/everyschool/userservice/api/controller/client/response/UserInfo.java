@@ -3,10 +3,13 @@ package com.everyschool.userservice.api.controller.client.response;
 import com.everyschool.userservice.domain.user.Parent;
 import com.everyschool.userservice.domain.user.Student;
 import com.everyschool.userservice.domain.user.Teacher;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserInfo {
 
     private Long userId;
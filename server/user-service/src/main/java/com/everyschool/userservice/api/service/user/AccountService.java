@@ -1,17 +1,16 @@
 package com.everyschool.userservice.api.service.user;
 
 import com.everyschool.userservice.domain.user.repository.UserRepository;
+import com.everyschool.userservice.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +25,14 @@ public class AccountService implements UserDetailsService {
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
 
+    /**
+     * 이메일로 로그인 인증 정보 조회
+     * 토큰 발급에 필요한 회원 정보도 함께 담아 로그인 시 회원을 한 번만 조회함
+     *
+     * @param email 로그인 이메일
+     * @return 로그인 인증 정보
+     * @throws UsernameNotFoundException 등록되지 않은 이메일인 경우 발생
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Optional<com.everyschool.userservice.domain.user.User> findUser = userRepository.findByEmail(email);
@@ -34,26 +41,7 @@ public class AccountService implements UserDetailsService {
             throw new UsernameNotFoundException("등록되지 않은 사용자입니다.");
         }
 
-        com.everyschool.userservice.domain.user.User user = findUser.get();
-        return new User(user.getEmail(), user.getPwd(),
-            true, true, true, true,
-            new ArrayList<>());
-    }
-
-    public com.everyschool.userservice.domain.user.User getUserDetailsByEmail(String email) {
-        Optional<com.everyschool.userservice.domain.user.User> findMember = userRepository.findByEmail(email);
-
-        if (findMember.isEmpty()) {
-            throw new UsernameNotFoundException("등록되지 않은 사용자입니다.");
-        }
-
-        return findMember.get();
-    }
-
-    public void saveFcmToken(String userKey, String fcmToken) {
-        ValueOperations<String, String> operations = redisTemplate.opsForValue();
-
-        operations.set(userKey, fcmToken, 30, TimeUnit.DAYS);
+        return new LoginUser(findUser.get());
     }
 
     public String getFcmToken(String userKey) {
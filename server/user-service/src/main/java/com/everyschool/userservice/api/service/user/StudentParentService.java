@@ -1,5 +1,6 @@
 package com.everyschool.userservice.api.service.user;
 
+import com.everyschool.userservice.api.service.user.cache.StudentParentChangedEvent;
 import com.everyschool.userservice.domain.user.Parent;
 import com.everyschool.userservice.domain.user.Student;
 import com.everyschool.userservice.domain.user.StudentParent;
@@ -9,6 +10,7 @@ import com.everyschool.userservice.domain.user.repository.UserRepository;
 import com.everyschool.userservice.messagequeue.dto.ParentSchoolApplyDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
@@ -33,6 +35,7 @@ public class StudentParentService {
     private final StudentParentRepository studentParentRepository;
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 학생 연결 코드 확인
@@ -75,6 +78,7 @@ public class StudentParentService {
             .build();
 
         StudentParent savedStudentParent = studentParentRepository.save(studentParent);
+        eventPublisher.publishEvent(new StudentParentChangedEvent(studentId, parentId));
     }
 
     /**
@@ -1,12 +1,14 @@
 package com.everyschool.userservice.api.service.user;
 
 import com.everyschool.userservice.api.controller.user.response.UserResponse;
+import com.everyschool.userservice.api.service.user.cache.UserInfoChangedEvent;
 import com.everyschool.userservice.api.service.user.dto.CreateUserDto;
 import com.everyschool.userservice.api.service.user.exception.DuplicateException;
 import com.everyschool.userservice.domain.user.Student;
 import com.everyschool.userservice.domain.user.repository.StudentRepository;
 import com.everyschool.userservice.domain.user.repository.UserQueryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -30,6 +32,7 @@ public class StudentService {
     private final UserQueryRepository userQueryRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponse createStudent(CreateUserDto dto) {
         emailDuplicateValidation(dto.getEmail());
@@ -60,6 +63,7 @@ public class StudentService {
         Student student = findStudent.get();
 
         Student editedStudent = student.editClassInfo(schoolId, schoolClassId);
+        eventPublisher.publishEvent(new UserInfoChangedEvent(editedStudent.getId(), editedStudent.getUserKey()));
     }
 
     public String createCode() {
@@ -1,9 +1,11 @@
 package com.everyschool.userservice.api.service.user;
 
+import com.everyschool.userservice.api.controller.client.response.UserFcmInfo;
 import com.everyschool.userservice.api.controller.client.response.UserResponse;
 import com.everyschool.userservice.api.controller.client.response.UserInfo;
 import com.everyschool.userservice.api.controller.user.response.UserClientResponse;
 import com.everyschool.userservice.api.controller.user.response.UserInfoResponse;
+import com.everyschool.userservice.api.service.user.cache.UserInfoCache;
 import com.everyschool.userservice.api.service.user.dto.SearchEmailDto;
 import com.everyschool.userservice.domain.user.Parent;
 import com.everyschool.userservice.domain.user.Student;
@@ -12,14 +14,19 @@ import com.everyschool.userservice.domain.user.User;
 import com.everyschool.userservice.domain.user.repository.UserQueryRepository;
 import com.everyschool.userservice.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.everyschool.userservice.message.ErrorMessage.NO_SUCH_USER;
+import static org.springframework.util.StringUtils.hasText;
 
 /**
  * 회원 조회 서비스
@@ -31,8 +38,12 @@ import static com.everyschool.userservice.message.ErrorMessage.NO_SUCH_USER;
 @Transactional(readOnly = true)
 public class UserQueryService {
 
+    private static final int MAX_BULK_SIZE = 5000;
+
     private final UserRepository userRepository;
     private final UserQueryRepository userQueryRepository;
+    private final UserInfoCache userInfoCache;
+    private final RedisTemplate<String, String> redisTemplate;
 
     public UserInfoResponse searchUser(String userKey) {
         Optional<UserInfoResponse> response = userQueryRepository.findByUserKey(userKey);
@@ -80,46 +91,73 @@ public class UserQueryService {
         return findUserId.get();
     }
 
+    /**
+     * 회원 키로 회원 정보 조회
+     * 캐시에 있으면 트랜잭션 없이 반환함
+     *
+     * @param userKey 회원 고유키
+     * @return 회원 정보
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserInfo searchUserInfo(String userKey) {
-        Optional<User> findUser = userQueryRepository.findUserInfoByUserKey(userKey);
-        if (findUser.isEmpty()) {
-            throw new NoSuchElementException(NO_SUCH_USER.getMessage());
-        }
-        User user = findUser.get();
-
-        if (user instanceof Student) {
-            Student student = (Student) user;
-            return UserInfo.of(student);
-        }
-
-        if (user instanceof Parent) {
-            Parent parent = (Parent) user;
-            return UserInfo.of(parent);
-        }
-
-        Teacher teacher = (Teacher) user;
-        return UserInfo.of(teacher);
+        return userInfoCache.getByUserKey(userKey, key -> {
+            Optional<User> findUser = userQueryRepository.findUserInfoByUserKey(key);
+            if (findUser.isEmpty()) {
+                throw new NoSuchElementException(NO_SUCH_USER.getMessage());
+            }
+            return toUserInfo(findUser.get());
+        });
     }
 
+    /**
+     * 회원 PK로 회원 정보 조회
+     * 캐시에 있으면 트랜잭션 없이 반환함
+     *
+     * @param userId 회원 PK
+     * @return 회원 정보
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserInfo searchUserInfoById(Long userId) {
-        Optional<User> findUser = userRepository.findById(userId);
-        if (findUser.isEmpty()) {
-            throw new NoSuchElementException(NO_SUCH_USER.getMessage());
-        }
-        User user = findUser.get();
+        return userInfoCache.getByUserId(userId, id -> {
+            Optional<User> findUser = userRepository.findById(id);
+            if (findUser.isEmpty()) {
+                throw new NoSuchElementException(NO_SUCH_USER.getMessage());
+            }
+            return toUserInfo(findUser.get());
+        });
+    }
 
-        if (user instanceof Student) {
-            Student student = (Student) user;
-            return UserInfo.of(student);
+    /**
+     * 회원 고유키 또는 회원 PK 목록으로 회원 정보와 FCM 토큰 한 번에 조회
+     * 회원은 IN 쿼리 한 번, FCM 토큰은 MGET 한 번으로 조회함
+     * 존재하지 않는 회원은 제외하고, FCM 토큰이 없는 회원은 토큰을 null로 반환함
+     *
+     * @param userKeys 조회할 회원 고유키 목록
+     * @param userIds  조회할 회원 PK 목록
+     * @return 회원 정보와 FCM 토큰 목록
+     * @throws IllegalArgumentException 한 번에 조회할 수 있는 회원 수를 넘은 경우
+     */
+    public List<UserFcmInfo> searchUserFcmInfos(List<String> userKeys, List<Long> userIds) {
+        if (userKeys.size() + userIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 회원은 " + MAX_BULK_SIZE + "명까지입니다.");
         }
 
-        if (user instanceof Parent) {
-            Parent parent = (Parent) user;
-            return UserInfo.of(parent);
+        List<User> users = userQueryRepository.findByUserKeyInOrIdIn(userKeys, userIds);
+        if (users.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        Teacher teacher = (Teacher) user;
-        return UserInfo.of(teacher);
+        List<String> findUserKeys = users.stream()
+            .map(User::getUserKey)
+            .collect(Collectors.toList());
+        List<String> fcmTokens = redisTemplate.opsForValue().multiGet(findUserKeys);
+
+        List<UserFcmInfo> infos = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            String fcmToken = fcmTokens == null ? null : fcmTokens.get(i);
+            infos.add(UserFcmInfo.of(toUserInfo(users.get(i)), findUserKeys.get(i), hasText(fcmToken) ? fcmToken : null));
+        }
+        return infos;
     }
 
     public List<UserResponse> searchByStudentIdIn(List<Long> studentIds) {
@@ -137,4 +175,19 @@ public class UserQueryService {
     public List<UserResponse> searchUserInfos(List<Long> userIds) {
         return userQueryRepository.findAllUserInfo(userIds);
     }
+
+    private UserInfo toUserInfo(User user) {
+        if (user instanceof Student) {
+            Student student = (Student) user;
+            return UserInfo.of(student);
+        }
+
+        if (user instanceof Parent) {
+            Parent parent = (Parent) user;
+            return UserInfo.of(parent);
+        }
+
+        Teacher teacher = (Teacher) user;
+        return UserInfo.of(teacher);
+    }
 }
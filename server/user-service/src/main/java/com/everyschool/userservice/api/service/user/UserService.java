@@ -2,9 +2,11 @@ package com.everyschool.userservice.api.service.user;
 
 import com.everyschool.userservice.api.controller.user.response.UserResponse;
 import com.everyschool.userservice.api.controller.user.response.WithdrawalResponse;
+import com.everyschool.userservice.api.service.user.cache.UserInfoChangedEvent;
 import com.everyschool.userservice.domain.user.User;
 import com.everyschool.userservice.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +29,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 비밀번호 변경
@@ -60,6 +63,7 @@ public class UserService {
         equalPwd(pwd, user.getPwd());
 
         user.remove();
+        eventPublisher.publishEvent(new UserInfoChangedEvent(user.getId(), user.getUserKey()));
 
         return WithdrawalResponse.of(user);
     }
@@ -0,0 +1,97 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.app.controller.user.response.StudentContactInfoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 학급 인원 연락처 목록 캐시
+ * (교직원 고유키, 학년도) 별로 서버 메모리에 저장함
+ * 학급 배정이나 학부모 연결이 바뀌면 어느 학급인지 알 수 없으므로 전체를 지우고, Redis pub/sub으로 다른 서버에도 알림
+ */
+@Component
+@Slf4j
+public class ContactInfoCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "CONTACT_INFO_INVALIDATION";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, List<StudentContactInfoResponse>> contactInfos;
+
+    public ContactInfoCache(StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${contact-info-cache.max-size:1000}") long maxSize,
+                            @Value("${contact-info-cache.ttl-ms:300000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.contactInfos = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, contactInfos, "contact-info");
+    }
+
+    /**
+     * 학급 인원 연락처 목록 조회
+     *
+     * @param teacherKey 교직원 고유키
+     * @param schoolYear 학년도
+     * @param loader     캐시에 없을 때 조회
+     * @return 학급 인원 연락처 목록
+     */
+    public List<StudentContactInfoResponse> get(String teacherKey, int schoolYear, Supplier<List<StudentContactInfoResponse>> loader) {
+        return contactInfos.get(teacherKey + ":" + schoolYear, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 학부모 연결 트랜잭션이 커밋되면 캐시를 지움
+     *
+     * @param event 학생 학부모 관계 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(StudentParentChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * 학급 배정이나 탈퇴로 회원 정보가 바뀌면 캐시를 지움
+     *
+     * @param event 회원 정보 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(UserInfoChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * 다른 서버에서 캐시 삭제 메세지를 받으면 서버 메모리 캐시를 지움
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        contactInfos.invalidateAll();
+    }
+
+    private void evictAll() {
+        contactInfos.invalidateAll();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, "ALL");
+        } catch (RuntimeException e) {
+            log.warn("[학급 연락처 캐시] 삭제 메세지 발행 실패", e);
+        }
+    }
+}
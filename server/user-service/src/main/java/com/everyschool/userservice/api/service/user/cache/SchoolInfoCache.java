@@ -0,0 +1,117 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.client.school.SchoolServiceClient;
+import com.everyschool.userservice.api.client.school.response.DescendantInfo;
+import com.everyschool.userservice.api.client.school.response.SchoolClassInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * school-service에서 조회한 학급 정보 캐시
+ * 학급 PK별 학급 정보와 학생 PK별 학급 정보를 짧은 시간 동안 서버 메모리에 저장함
+ * 학생의 학급이 바뀌면 해당 학생의 학급 정보를 지우고, Redis pub/sub으로 다른 서버에도 알림
+ */
+@Component
+@Slf4j
+public class SchoolInfoCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "SCHOOL_INFO_INVALIDATION";
+
+    private final SchoolServiceClient schoolServiceClient;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, SchoolClassInfo> schoolClassInfos;
+    private final Cache<Long, DescendantInfo> descendantInfos;
+
+    public SchoolInfoCache(SchoolServiceClient schoolServiceClient,
+                           StringRedisTemplate redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${school-info-cache.max-size:10000}") long maxSize,
+                           @Value("${school-info-cache.ttl-ms:60000}") long ttlMillis) {
+        this.schoolServiceClient = schoolServiceClient;
+        this.redisTemplate = redisTemplate;
+        this.schoolClassInfos = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        this.descendantInfos = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, schoolClassInfos, "school-class-info");
+        CaffeineCacheMetrics.monitor(meterRegistry, descendantInfos, "descendant-info");
+    }
+
+    /**
+     * 학급 PK로 학급 정보 조회
+     *
+     * @param schoolClassId 학급 PK
+     * @return 학급 정보
+     */
+    public SchoolClassInfo getSchoolClassInfo(Long schoolClassId) {
+        return schoolClassInfos.get(schoolClassId, schoolServiceClient::searchBySchoolClassId);
+    }
+
+    /**
+     * 학생 PK 목록으로 학급 정보 조회
+     * 캐시에 없는 학생만 모아서 한 번에 조회함
+     *
+     * @param studentIds 학생 PK 목록
+     * @return key: 학생 PK, value: 학급 정보
+     */
+    public Map<Long, DescendantInfo> getDescendantInfos(List<Long> studentIds) {
+        return descendantInfos.getAll(studentIds, missingIds -> {
+            List<Long> userIds = new ArrayList<>();
+            missingIds.forEach(userIds::add);
+            return schoolServiceClient.searchByUserId(userIds).stream()
+                .collect(Collectors.toMap(DescendantInfo::getUserId, Function.identity(), (a, b) -> b));
+        });
+    }
+
+    /**
+     * 학급 배정이 바뀐 학생의 학급 정보를 지움
+     *
+     * @param event 회원 정보 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(UserInfoChangedEvent event) {
+        descendantInfos.invalidate(event.getUserId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.getUserId()));
+        } catch (RuntimeException e) {
+            log.warn("[학급 정보 캐시] 삭제 메세지 발행 실패. userId={}", event.getUserId(), e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 학급이 바뀐 학생의 학급 정보를 서버 메모리 캐시에서 지움
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            descendantInfos.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[학급 정보 캐시] 잘못된 삭제 메세지", e);
+        }
+    }
+}
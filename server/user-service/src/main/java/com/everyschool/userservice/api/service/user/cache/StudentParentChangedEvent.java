@@ -0,0 +1,19 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import lombok.Getter;
+
+/**
+ * 학생과 학부모의 관계가 바뀐 경우 발행하는 이벤트
+ * 트랜잭션 커밋 후 학급 연락처 캐시에서 지움
+ */
+@Getter
+public class StudentParentChangedEvent {
+
+    private final Long studentId;
+    private final Long parentId;
+
+    public StudentParentChangedEvent(Long studentId, Long parentId) {
+        this.studentId = studentId;
+        this.parentId = parentId;
+    }
+}
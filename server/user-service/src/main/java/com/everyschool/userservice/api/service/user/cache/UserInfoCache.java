@@ -0,0 +1,247 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.controller.client.response.UserInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 회원 정보(UserInfo) 2단계 캐시
+ * 서버 메모리(Caffeine) -> Redis -> DB 순서로 조회하고, 회원 키와 회원 PK 둘 다로 저장함
+ * 회원 정보가 바뀌면 Redis에서 지우고 Redis pub/sub으로 모든 서버의 메모리 캐시에서도 지움
+ * 조회 시간과 캐시 적중률은 Micrometer로 기록함
+ */
+@Component
+@Slf4j
+public class UserInfoCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "USER_INFO_INVALIDATION";
+
+    private static final String USER_KEY_PREFIX = "USER_INFO_KEY_";
+    private static final String USER_ID_PREFIX = "USER_INFO_ID_";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long redisTtlMillis;
+    private final Cache<String, UserInfo> byUserKey;
+    private final Cache<Long, UserInfo> byUserId;
+    private final Map<Lookup, Map<Source, Timer>> timers = new EnumMap<>(Lookup.class);
+
+    public UserInfoCache(StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-info-cache.local.max-size:10000}") long localMaxSize,
+                         @Value("${user-info-cache.local.ttl-ms:60000}") long localTtlMillis,
+                         @Value("${user-info-cache.redis.ttl-ms:1800000}") long redisTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtlMillis = redisTtlMillis;
+        this.byUserKey = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        this.byUserId = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byUserKey, "user-info-by-key");
+        CaffeineCacheMetrics.monitor(meterRegistry, byUserId, "user-info-by-id");
+        for (Lookup lookup : Lookup.values()) {
+            Map<Source, Timer> sourceTimers = new EnumMap<>(Source.class);
+            for (Source source : Source.values()) {
+                sourceTimers.put(source, Timer.builder("user.info.lookup")
+                    .description("회원 정보 조회 시간")
+                    .tag("by", lookup.tag)
+                    .tag("source", source.tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            }
+            timers.put(lookup, sourceTimers);
+            Gauge.builder("user.info.cache.hit.ratio", this, cache -> cache.hitRatio(lookup))
+                .description("회원 정보 조회 중 DB를 거치지 않은 비율")
+                .tag("by", lookup.tag)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 회원 키로 회원 정보 조회
+     *
+     * @param userKey 회원 고유키
+     * @param loader  캐시에 없을 때 DB 조회
+     * @return 회원 정보
+     */
+    public UserInfo getByUserKey(String userKey, Function<String, UserInfo> loader) {
+        long start = System.nanoTime();
+        Source[] source = {Source.LOCAL};
+        UserInfo userInfo = byUserKey.get(userKey, key -> {
+            UserInfo cached = readRedis(USER_KEY_PREFIX + key);
+            if (cached != null) {
+                source[0] = Source.REDIS;
+                return cached;
+            }
+            source[0] = Source.DB;
+            UserInfo loaded = loader.apply(key);
+            writeRedis(USER_KEY_PREFIX + key, loaded);
+            writeRedis(USER_ID_PREFIX + loaded.getUserId(), loaded);
+            byUserId.put(loaded.getUserId(), loaded);
+            return loaded;
+        });
+        record(Lookup.USER_KEY, source[0], start);
+        return userInfo;
+    }
+
+    /**
+     * 회원 PK로 회원 정보 조회
+     *
+     * @param userId 회원 PK
+     * @param loader 캐시에 없을 때 DB 조회
+     * @return 회원 정보
+     */
+    public UserInfo getByUserId(Long userId, Function<Long, UserInfo> loader) {
+        long start = System.nanoTime();
+        Source[] source = {Source.LOCAL};
+        UserInfo userInfo = byUserId.get(userId, id -> {
+            UserInfo cached = readRedis(USER_ID_PREFIX + id);
+            if (cached != null) {
+                source[0] = Source.REDIS;
+                return cached;
+            }
+            source[0] = Source.DB;
+            UserInfo loaded = loader.apply(id);
+            writeRedis(USER_ID_PREFIX + id, loaded);
+            return loaded;
+        });
+        record(Lookup.USER_ID, source[0], start);
+        return userInfo;
+    }
+
+    /**
+     * 회원 정보 변경 트랜잭션이 커밋되면 캐시에서 지움
+     *
+     * @param event 회원 정보 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(UserInfoChangedEvent event) {
+        evictLocal(event.getUserId(), event.getUserKey());
+        try {
+            redisTemplate.delete(Arrays.asList(USER_ID_PREFIX + event.getUserId(), USER_KEY_PREFIX + event.getUserKey()));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getUserId() + ":" + event.getUserKey());
+        } catch (RuntimeException e) {
+            log.warn("[회원 정보 캐시] Redis 삭제 실패. userId={}", event.getUserId(), e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 바뀐 회원 정보를 메모리 캐시에서 지움
+     *
+     * @param message "회원 PK:회원 키"
+     * @param pattern 구독 채널
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            evictLocal(Long.valueOf(body.substring(0, separator)), body.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("[회원 정보 캐시] 잘못된 삭제 메세지. {}", body);
+        }
+    }
+
+    private void evictLocal(Long userId, String userKey) {
+        if (userId != null) {
+            byUserId.invalidate(userId);
+        }
+        if (userKey != null) {
+            byUserKey.invalidate(userKey);
+        }
+    }
+
+    private UserInfo readRedis(String key) {
+        if (redisTtlMillis <= 0) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value, UserInfo.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[회원 정보 캐시] Redis 조회 실패. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, UserInfo userInfo) {
+        if (redisTtlMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(userInfo), redisTtlMillis, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[회원 정보 캐시] Redis 저장 실패. key={}", key, e);
+        }
+    }
+
+    private void record(Lookup lookup, Source source, long start) {
+        timers.get(lookup).get(source).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private double hitRatio(Lookup lookup) {
+        Map<Source, Timer> sourceTimers = timers.get(lookup);
+        long total = 0;
+        for (Timer timer : sourceTimers.values()) {
+            total += timer.count();
+        }
+        if (total == 0) {
+            return 0;
+        }
+        return (double) (total - sourceTimers.get(Source.DB).count()) / total;
+    }
+
+    private enum Lookup {
+        USER_KEY("key"), USER_ID("id");
+
+        private final String tag;
+
+        Lookup(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private enum Source {
+        LOCAL("local"), REDIS("redis"), DB("db");
+
+        private final String tag;
+
+        Source(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import lombok.Getter;
+
+/**
+ * 회원 정보(UserInfo)가 바뀐 경우 발행하는 이벤트
+ * 트랜잭션 커밋 후 회원 정보 캐시에서 지움
+ */
+@Getter
+public class UserInfoChangedEvent {
+
+    private final Long userId;
+    private final String userKey;
+
+    public UserInfoChangedEvent(Long userId, String userKey) {
+        this.userId = userId;
+        this.userKey = userKey;
+    }
+}
@@ -0,0 +1,134 @@
+package com.everyschool.userservice.api.service.user.fcm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 토큰 비동기 저장
+ * 로그인 스레드는 큐에 넣기만 하고, 별도 스레드가 batch-size 개 또는 flush-interval 마다 모아서 Redis 파이프라인으로 저장함
+ * 큐가 가득 차면 호출한 스레드에서 바로 저장함
+ */
+@Component
+@Slf4j
+public class FcmTokenWriter {
+
+    private static final long FCM_TOKEN_TTL_DAYS = 30;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BlockingQueue<FcmToken> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public FcmTokenWriter(RedisTemplate<String, String> redisTemplate,
+                          @Value("${fcm-token.write.queue-capacity:10000}") int queueCapacity,
+                          @Value("${fcm-token.write.batch-size:100}") int batchSize,
+                          @Value("${fcm-token.write.flush-interval-ms:10}") long flushIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flusher = new Thread(this::runFlusher, "fcm-token-writer");
+        this.flusher.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * FCM 토큰 저장 요청
+     *
+     * @param userKey  회원 고유키
+     * @param fcmToken FCM 토큰
+     */
+    public void write(String userKey, String fcmToken) {
+        if (queue.offer(new FcmToken(userKey, fcmToken))) {
+            return;
+        }
+        log.debug("[FCM 토큰 저장] 큐가 가득 차서 바로 저장함. userKey = {}", userKey);
+        redisTemplate.opsForValue().set(userKey, fcmToken, FCM_TOKEN_TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    private void runFlusher() {
+        List<FcmToken> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                FcmToken first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    private void flush(List<FcmToken> batch) {
+        //같은 회원의 토큰은 마지막 토큰만 저장
+        Map<String, String> tokens = new LinkedHashMap<>();
+        for (FcmToken fcmToken : batch) {
+            tokens.put(fcmToken.userKey, fcmToken.token);
+        }
+        batch.clear();
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (Map.Entry<String, String> entry : tokens.entrySet()) {
+                        stringOperations.opsForValue().set(entry.getKey(), entry.getValue(), FCM_TOKEN_TTL_DAYS, TimeUnit.DAYS);
+                    }
+                    return null;
+                }
+            });
+            log.debug("[FCM 토큰 저장] 파이프라인 저장 완료. 토큰 수 = {}", tokens.size());
+        } catch (RuntimeException e) {
+            //토큰은 다음 로그인 때 다시 저장되므로 재시도하지 않음
+            log.warn("[FCM 토큰 저장] 저장 실패. 토큰 수 = {}", tokens.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher.isAlive()) {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private static class FcmToken {
+
+        private final String userKey;
+        private final String token;
+
+        FcmToken(String userKey, String token) {
+            this.userKey = userKey;
+            this.token = token;
+        }
+    }
+}
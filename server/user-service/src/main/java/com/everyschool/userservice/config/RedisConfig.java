@@ -1,11 +1,16 @@
 package com.everyschool.userservice.config;
 
+import com.everyschool.userservice.api.service.user.cache.ContactInfoCache;
+import com.everyschool.userservice.api.service.user.cache.SchoolInfoCache;
+import com.everyschool.userservice.api.service.user.cache.UserInfoCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis 환경 설정
@@ -32,4 +37,18 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    /**
+     * 다른 서버에서 바뀐 회원 정보를 메모리 캐시에서 지우기 위한 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheListenerContainer(UserInfoCache userInfoCache, ContactInfoCache contactInfoCache,
+                                                                SchoolInfoCache schoolInfoCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(userInfoCache, new ChannelTopic(UserInfoCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(contactInfoCache, new ChannelTopic(ContactInfoCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(schoolInfoCache, new ChannelTopic(SchoolInfoCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
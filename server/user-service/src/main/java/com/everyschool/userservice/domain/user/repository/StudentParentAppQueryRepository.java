@@ -2,6 +2,7 @@ package com.everyschool.userservice.domain.user.repository;
 
 import com.everyschool.userservice.domain.user.Parent;
 import com.everyschool.userservice.domain.user.Student;
+import com.everyschool.userservice.domain.user.StudentParent;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
@@ -38,4 +39,19 @@ public class StudentParentAppQueryRepository {
             .where(studentParent.student.id.eq(studentId))
             .fetch();
     }
+
+    /**
+     * 학생 아이디 목록으로 학생 학부모 관계를 학부모와 함께 조회
+     *
+     * @param studentIds 학생 아이디 목록
+     * @return 학부모를 함께 조회한 학생 학부모 관계 목록
+     */
+    public List<StudentParent> findWithParentByStudentIdIn(List<Long> studentIds) {
+        return queryFactory
+            .select(studentParent)
+            .from(studentParent)
+            .join(studentParent.parent, parent).fetchJoin()
+            .where(studentParent.student.id.in(studentIds))
+            .fetch();
+    }
 }
@@ -7,12 +7,14 @@ import com.everyschool.userservice.api.service.user.dto.SearchEmailDto;
 import com.everyschool.userservice.domain.user.QStudent;
 import com.everyschool.userservice.domain.user.QStudentParent;
 import com.everyschool.userservice.domain.user.User;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -122,6 +124,31 @@ public class UserQueryRepository {
         return Optional.ofNullable(content);
     }
 
+    /**
+     * 회원 고유키 또는 회원 PK 목록으로 회원 엔티티 한 번에 조회
+     *
+     * @param userKeys 조회할 회원 고유키 목록
+     * @param userIds  조회할 회원 PK 목록
+     * @return 조회된 회원 엔티티 목록
+     */
+    public List<User> findByUserKeyInOrIdIn(List<String> userKeys, List<Long> userIds) {
+        BooleanBuilder condition = new BooleanBuilder();
+        if (!userKeys.isEmpty()) {
+            condition.or(user.userKey.in(userKeys));
+        }
+        if (!userIds.isEmpty()) {
+            condition.or(user.id.in(userIds));
+        }
+        if (!condition.hasValue()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+            .select(user)
+            .from(user)
+            .where(condition)
+            .fetch();
+    }
+
     public List<UserResponse> findStudentByIdIn(List<Long> studentIds) {
         return queryFactory
             .select(Projections.constructor(
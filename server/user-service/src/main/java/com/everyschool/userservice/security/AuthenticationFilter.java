@@ -1,7 +1,7 @@
 package com.everyschool.userservice.security;
 
 import com.everyschool.userservice.api.controller.user.request.LoginRequest;
-import com.everyschool.userservice.api.service.user.AccountService;
+import com.everyschool.userservice.api.service.user.fcm.FcmTokenWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -13,7 +13,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import javax.servlet.FilterChain;
@@ -30,13 +29,16 @@ import static org.springframework.util.StringUtils.hasText;
 @Slf4j
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final AccountService accountService;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String FCM_TOKEN_ATTRIBUTE = AuthenticationFilter.class.getName() + ".fcmToken";
+
+    private final FcmTokenWriter fcmTokenWriter;
     private final Environment env;
     private final Key key;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, AccountService accountService, Environment env) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, FcmTokenWriter fcmTokenWriter, Environment env) {
         super.setAuthenticationManager(authenticationManager);
-        this.accountService = accountService;
+        this.fcmTokenWriter = fcmTokenWriter;
         this.env = env;
         byte[] keyBytes = Decoders.BASE64.decode(this.env.getProperty("token.secret"));
         this.key = Keys.hmacShaKeyFor(keyBytes);
@@ -45,13 +47,10 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
-            LoginRequest creds = new ObjectMapper().readValue(request.getInputStream(), LoginRequest.class);
-
-            com.everyschool.userservice.domain.user.User user = accountService.getUserDetailsByEmail(creds.getEmail());
+            LoginRequest creds = OBJECT_MAPPER.readValue(request.getInputStream(), LoginRequest.class);
 
-            if (hasText(creds.getFcmToken())) {
-                accountService.saveFcmToken(user.getUserKey(), creds.getFcmToken());
-            }
+            //FCM 토큰은 인증에 성공한 경우에만 저장
+            request.setAttribute(FCM_TOKEN_ATTRIBUTE, creds.getFcmToken());
 
             return getAuthenticationManager()
                 .authenticate(new UsernamePasswordAuthenticationToken(creds.getEmail(), creds.getPassword(), new ArrayList<>()));
@@ -62,8 +61,7 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) {
-        String email = ((User) authResult.getPrincipal()).getUsername();
-        com.everyschool.userservice.domain.user.User user = accountService.getUserDetailsByEmail(email);
+        LoginUser user = (LoginUser) authResult.getPrincipal();
 
         String token = Jwts.builder()
             .setSubject(user.getUserKey())
@@ -74,6 +72,11 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         response.addHeader("token", token);
         response.addHeader("userType", String.valueOf(user.getUserCodeId()));
         response.addHeader("userKey", user.getUserKey());
+
+        String fcmToken = (String) request.getAttribute(FCM_TOKEN_ATTRIBUTE);
+        if (hasText(fcmToken)) {
+            fcmTokenWriter.write(user.getUserKey(), fcmToken);
+        }
         //servlet
     }
 
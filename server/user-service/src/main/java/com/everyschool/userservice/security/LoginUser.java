@@ -0,0 +1,25 @@
+package com.everyschool.userservice.security;
+
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+
+/**
+ * 로그인 인증 정보
+ * 인증 시 조회한 회원의 고유키와 회원 구분 코드를 함께 담아 토큰 발급 시 다시 조회하지 않음
+ */
+@Getter
+public class LoginUser extends User {
+
+    private final String userKey;
+    private final Integer userCodeId;
+
+    public LoginUser(com.everyschool.userservice.domain.user.User user) {
+        super(user.getEmail(), user.getPwd(),
+            true, true, true, true,
+            new ArrayList<>());
+        this.userKey = user.getUserKey();
+        this.userCodeId = user.getUserCodeId();
+    }
+}
@@ -1,6 +1,7 @@
 package com.everyschool.userservice.security;
 
 import com.everyschool.userservice.api.service.user.AccountService;
+import com.everyschool.userservice.api.service.user.fcm.FcmTokenWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,7 @@ public class WebSecurity {
 
     private final AccountService accountService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final FcmTokenWriter fcmTokenWriter;
     private final Environment env;
 
     AuthenticationManager authenticationManager;
@@ -29,7 +31,7 @@ public class WebSecurity {
         authenticationManagerBuilder.userDetailsService(accountService).passwordEncoder(bCryptPasswordEncoder);
         authenticationManager = authenticationManagerBuilder.build();
 
-        AuthenticationFilter authenticationFilter = new AuthenticationFilter(authenticationManager, accountService, env);
+        AuthenticationFilter authenticationFilter = new AuthenticationFilter(authenticationManager, fcmTokenWriter, env);
 
         http.csrf().disable();
 
@@ -0,0 +1,69 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.app.controller.user.response.StudentContactInfoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ContactInfoCacheTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ContactInfoCache cache = new ContactInfoCache(redisTemplate, new SimpleMeterRegistry(), 100, 60_000);
+
+    @DisplayName("같은 교직원과 학년도의 학급 연락처 목록은 한 번만 조회한다.")
+    @Test
+    void get() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        List<StudentContactInfoResponse> first = cache.get("teacher-key", 2023, () -> load(loadCount));
+        List<StudentContactInfoResponse> second = cache.get("teacher-key", 2023, () -> load(loadCount));
+        cache.get("teacher-key", 2024, () -> load(loadCount));
+
+        //then
+        assertThat(first).isSameAs(second).hasSize(1);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("학부모 연결, 학급 배정 변경, 다른 서버의 삭제 메세지가 오면 캐시를 지운다.")
+    @Test
+    void evict() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get("teacher-key", 2023, () -> load(loadCount));
+
+        //when
+        cache.evict(new StudentParentChangedEvent(1L, 2L));
+        cache.get("teacher-key", 2023, () -> load(loadCount));
+        cache.evict(new UserInfoChangedEvent(1L, "student-key"));
+        cache.get("teacher-key", 2023, () -> load(loadCount));
+        cache.onMessage(new DefaultMessage(ContactInfoCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "ALL".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get("teacher-key", 2023, () -> load(loadCount));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(4);
+        verify(redisTemplate, times(2)).convertAndSend(ContactInfoCache.INVALIDATION_CHANNEL, "ALL");
+    }
+
+    private List<StudentContactInfoResponse> load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return List.of(StudentContactInfoResponse.builder()
+            .userKey("student-key")
+            .name("신짱구")
+            .studentNumber(1)
+            .build());
+    }
+}
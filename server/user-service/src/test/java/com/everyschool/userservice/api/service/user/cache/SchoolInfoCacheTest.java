@@ -0,0 +1,93 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.client.school.SchoolServiceClient;
+import com.everyschool.userservice.api.client.school.response.DescendantInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class SchoolInfoCacheTest {
+
+    private final SchoolServiceClient schoolServiceClient = mock(SchoolServiceClient.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SchoolInfoCache cache = new SchoolInfoCache(schoolServiceClient, redisTemplate, new SimpleMeterRegistry(), 100, 60_000);
+
+    @DisplayName("캐시에 없는 학생의 학급 정보만 모아서 한 번에 조회한다.")
+    @Test
+    void getDescendantInfos() {
+        //given
+        given(schoolServiceClient.searchByUserId(List.of(1L)))
+            .willReturn(List.of(createDescendantInfo(1L)));
+        given(schoolServiceClient.searchByUserId(List.of(2L)))
+            .willReturn(List.of(createDescendantInfo(2L)));
+
+        //when
+        cache.getDescendantInfos(List.of(1L));
+        Map<Long, DescendantInfo> result = cache.getDescendantInfos(List.of(1L, 2L));
+
+        //then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        verify(schoolServiceClient, times(1)).searchByUserId(List.of(1L));
+        verify(schoolServiceClient, times(1)).searchByUserId(List.of(2L));
+    }
+
+    @DisplayName("학급 배정이 바뀐 학생의 학급 정보는 다시 조회하고, 다른 서버에도 삭제 메세지를 보낸다.")
+    @Test
+    void evict() {
+        //given
+        given(schoolServiceClient.searchByUserId(List.of(1L)))
+            .willReturn(List.of(createDescendantInfo(1L)));
+        cache.getDescendantInfos(List.of(1L));
+
+        //when
+        cache.evict(new UserInfoChangedEvent(1L, "student-key"));
+        cache.getDescendantInfos(List.of(1L));
+
+        //then
+        verify(schoolServiceClient, times(2)).searchByUserId(List.of(1L));
+        verify(redisTemplate).convertAndSend(SchoolInfoCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    @DisplayName("다른 서버의 삭제 메세지가 오면 해당 학생의 학급 정보를 지운다.")
+    @Test
+    void evictByMessage() {
+        //given
+        given(schoolServiceClient.searchByUserId(List.of(1L, 2L)))
+            .willReturn(List.of(createDescendantInfo(1L), createDescendantInfo(2L)));
+        given(schoolServiceClient.searchByUserId(List.of(1L)))
+            .willReturn(List.of(createDescendantInfo(1L)));
+        cache.getDescendantInfos(List.of(1L, 2L));
+
+        //when
+        cache.onMessage(new DefaultMessage(SchoolInfoCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.getDescendantInfos(List.of(1L, 2L));
+
+        //then
+        verify(schoolServiceClient, times(1)).searchByUserId(List.of(1L, 2L));
+        verify(schoolServiceClient, times(1)).searchByUserId(List.of(1L));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private DescendantInfo createDescendantInfo(Long userId) {
+        return DescendantInfo.builder()
+            .userId(userId)
+            .schoolName("떡잎초등학교")
+            .schoolYear(2023)
+            .grade(1)
+            .classNum(3)
+            .studentNumber(1)
+            .build();
+    }
+}
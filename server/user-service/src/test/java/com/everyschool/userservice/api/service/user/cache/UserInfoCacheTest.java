@@ -0,0 +1,139 @@
+package com.everyschool.userservice.api.service.user.cache;
+
+import com.everyschool.userservice.api.controller.client.response.UserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserInfoCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("같은 회원은 DB에서 한 번만 조회하고, 회원 키로 조회한 정보는 회원 PK로도 조회된다.")
+    @Test
+    void getByUserKey() {
+        //given
+        UserInfoCache cache = new UserInfoCache(mock(StringRedisTemplate.class), objectMapper, meterRegistry, 100, 60_000, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        UserInfo first = cache.getByUserKey("user-key", key -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+        UserInfo second = cache.getByUserKey("user-key", key -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+        UserInfo byId = cache.getByUserId(1L, id -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+
+        //then
+        assertThat(first).isSameAs(second).isSameAs(byId);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.info.lookup").tag("by", "key").tag("source", "db").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.info.lookup").tag("by", "key").tag("source", "local").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.info.cache.hit.ratio").tag("by", "key").gauge().value()).isEqualTo(0.5);
+    }
+
+    @DisplayName("메모리 캐시에 없으면 Redis에서 조회하고, Redis에도 없으면 DB 조회 결과를 Redis에 저장한다.")
+    @Test
+    void getByUserIdFromRedis() throws Exception {
+        //given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> operations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(operations);
+        given(operations.get("USER_INFO_ID_1")).willReturn(objectMapper.writeValueAsString(createUserInfo()));
+        UserInfoCache cache = new UserInfoCache(redisTemplate, objectMapper, meterRegistry, 100, 60_000, 1_800_000);
+
+        //when
+        UserInfo cached = cache.getByUserId(1L, id -> {
+            throw new IllegalStateException();
+        });
+        UserInfo loaded = cache.getByUserId(2L, id -> UserInfo.builder().userId(id).userType('T').userName("채수린").build());
+
+        //then
+        assertThat(cached.getUserName()).isEqualTo("신짱구");
+        assertThat(cached.getSchoolClassId()).isEqualTo(3L);
+        assertThat(loaded.getUserId()).isEqualTo(2L);
+        verify(operations).set(eq("USER_INFO_ID_2"), anyString(), eq(1_800_000L), eq(TimeUnit.MILLISECONDS));
+        assertThat(meterRegistry.get("user.info.lookup").tag("by", "id").tag("source", "redis").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("회원 정보가 바뀌거나 다른 서버에서 삭제 메세지를 받으면 메모리 캐시에서 지운다.")
+    @Test
+    void evict() {
+        //given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UserInfoCache cache = new UserInfoCache(redisTemplate, objectMapper, meterRegistry, 100, 60_000, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.getByUserKey("user-key", key -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+
+        //when
+        cache.evict(new UserInfoChangedEvent(1L, "user-key"));
+        cache.getByUserKey("user-key", key -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+        cache.onMessage(new DefaultMessage("USER_INFO_INVALIDATION".getBytes(StandardCharsets.UTF_8),
+            "1:user-key".getBytes(StandardCharsets.UTF_8)), null);
+        cache.getByUserId(1L, id -> {
+            loadCount.incrementAndGet();
+            return createUserInfo();
+        });
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(3);
+        verify(redisTemplate).convertAndSend("USER_INFO_INVALIDATION", "1:user-key");
+    }
+
+    @DisplayName("존재하지 않는 회원은 캐시하지 않는다.")
+    @Test
+    void getByUserKeyWithoutUser() {
+        //given
+        UserInfoCache cache = new UserInfoCache(mock(StringRedisTemplate.class), objectMapper, meterRegistry, 100, 60_000, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.getByUserKey("unknown", key -> {
+                loadCount.incrementAndGet();
+                throw new NoSuchElementException("등록되지 않은 회원입니다.");
+            })).isInstanceOf(NoSuchElementException.class);
+        }
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private UserInfo createUserInfo() {
+        return UserInfo.builder()
+            .userId(1L)
+            .userType('S')
+            .userName("신짱구")
+            .schoolClassId(3L)
+            .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.everyschool.userservice.docs.client;
 
 import com.everyschool.userservice.api.controller.client.UserClientController;
+import com.everyschool.userservice.api.controller.client.request.UserFcmInfoRequest;
+import com.everyschool.userservice.api.controller.client.response.UserFcmInfo;
 import com.everyschool.userservice.api.controller.client.response.UserInfo;
 import com.everyschool.userservice.api.service.user.AccountService;
 import com.everyschool.userservice.api.service.user.StudentParentQueryService;
@@ -9,18 +11,24 @@ import com.everyschool.userservice.docs.RestDocsSupport;
 import com.everyschool.userservice.utils.TokenUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -107,4 +115,67 @@ public class UserClientControllerDocsTest extends RestDocsSupport {
             ));
     }
 
+    @DisplayName("회원 고유키 또는 회원 PK 목록으로 회원 정보와 FCM 토큰 조회 API")
+    @Test
+    void searchUserFcmInfos() throws Exception {
+        UserFcmInfoRequest request = UserFcmInfoRequest.builder()
+            .userKeys(List.of(UUID.randomUUID().toString()))
+            .userIds(List.of(2L))
+            .build();
+
+        UserInfo student = UserInfo.builder()
+            .userId(1L)
+            .userType('S')
+            .userName("이예리")
+            .schoolClassId(100L)
+            .build();
+        UserInfo teacher = UserInfo.builder()
+            .userId(2L)
+            .userType('T')
+            .userName("임우택")
+            .schoolClassId(100L)
+            .build();
+
+        given(userQueryService.searchUserFcmInfos(anyList(), anyList()))
+            .willReturn(List.of(
+                UserFcmInfo.of(student, UUID.randomUUID().toString(), "fcm token"),
+                UserFcmInfo.of(teacher, UUID.randomUUID().toString(), null)
+            ));
+
+        mockMvc.perform(
+                post("/client/v1/user-fcm-infos")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON)
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andDo(document("client-search-user-fcm-infos",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                requestFields(
+                    fieldWithPath("userKeys").type(JsonFieldType.ARRAY)
+                        .optional()
+                        .description("조회할 회원 고유키 목록"),
+                    fieldWithPath("userIds").type(JsonFieldType.ARRAY)
+                        .optional()
+                        .description("조회할 회원 id 목록")
+                ),
+                responseFields(
+                    fieldWithPath("[].userId").type(JsonFieldType.NUMBER)
+                        .description("회원 id"),
+                    fieldWithPath("[].userKey").type(JsonFieldType.STRING)
+                        .description("회원 고유키"),
+                    fieldWithPath("[].userType").type(JsonFieldType.STRING)
+                        .description("회원 타입"),
+                    fieldWithPath("[].userName").type(JsonFieldType.STRING)
+                        .description("회원 이름"),
+                    fieldWithPath("[].schoolClassId").type(JsonFieldType.NUMBER)
+                        .optional()
+                        .description("학급 id"),
+                    fieldWithPath("[].fcmToken").type(JsonFieldType.STRING)
+                        .optional()
+                        .description("FCM 토큰 (없는 경우 null)")
+                )
+            ));
+    }
 }
@@ -0,0 +1,127 @@
+package com.everyschool.userservice.security;
+
+import com.everyschool.userservice.api.controller.user.request.LoginRequest;
+import com.everyschool.userservice.api.service.user.fcm.FcmTokenWriter;
+import com.everyschool.userservice.domain.user.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로그인 필터 처리량 측정
+ * 비밀번호 해시 비용을 낮춰 필터, 인증, 토큰 발급 구간의 처리량을 측정함
+ * 처리량 측정은 benchmark 태그로 기본 테스트에서 제외하고 ./gradlew benchmark 로 실행함
+ */
+class AuthenticationFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationFilterBenchmarkTest.class);
+
+    private static final int WARM_UP = 200;
+    private static final int LOGINS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final FcmTokenWriter fcmTokenWriter = mock(FcmTokenWriter.class);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @DisplayName("로그인 한 번에 회원을 한 번만 조회하고, 인증에 성공한 경우에만 FCM 토큰을 저장한다.")
+    @Test
+    void login() throws Exception {
+        //given
+        AuthenticationFilter filter = createFilter();
+
+        //when
+        MockHttpServletResponse success = login(filter, "1234");
+        MockHttpServletResponse failure = login(filter, "5678");
+
+        //then
+        assertThat(success.getHeader("userKey")).isEqualTo("student-key");
+        assertThat(success.getHeader("token")).isNotBlank();
+        assertThat(failure.getStatus()).isEqualTo(401);
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(fcmTokenWriter, times(1)).write(anyString(), anyString());
+    }
+
+    @DisplayName("로그인 필터 처리량")
+    @Tag("benchmark")
+    @Test
+    void throughput() throws Exception {
+        //given
+        AuthenticationFilter filter = createFilter();
+        for (int i = 0; i < WARM_UP; i++) {
+            login(filter, "1234");
+        }
+        loadCount.set(0);
+
+        //when
+        long start = System.nanoTime();
+        for (int i = 0; i < LOGINS; i++) {
+            login(filter, "1234");
+        }
+        long elapsed = System.nanoTime() - start;
+
+        //then
+        log.info("[로그인 처리량] {} logins/s ({} logins, {} ms)",
+            LOGINS * TimeUnit.SECONDS.toNanos(1) / elapsed, LOGINS, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        assertThat(loadCount.get()).isEqualTo(LOGINS);
+    }
+
+    private AuthenticationFilter createFilter() {
+        Student student = Student.builder()
+            .email("ssamudda@gmail.com")
+            .pwd(passwordEncoder.encode("1234"))
+            .name("신짱구")
+            .birth("2010-01-01")
+            .userKey("student-key")
+            .userCodeId(1)
+            .build();
+        UserDetailsService userDetailsService = email -> {
+            loadCount.incrementAndGet();
+            return new LoginUser(student);
+        };
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        MockEnvironment env = new MockEnvironment()
+            .withProperty("token.secret", Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded()));
+        return new AuthenticationFilter(new ProviderManager(provider), fcmTokenWriter, env);
+    }
+
+    private MockHttpServletResponse login(AuthenticationFilter filter, String password) throws Exception {
+        LoginRequest loginRequest = LoginRequest.builder()
+            .email("ssamudda@gmail.com")
+            .password(password)
+            .fcmToken("fcm-token")
+            .build();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setContent(objectMapper.writeValueAsBytes(loginRequest));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,92 @@
+package com.everyschool.userservice.utils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenUtilsTest {
+
+    private static final String IDENTITY_SECRET = "identity-secret";
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final TokenUtils tokenUtils = new TokenUtils(new MockEnvironment()
+        .withProperty("token.secret", Encoders.BASE64.encode(key.getEncoded()))
+        .withProperty("gateway.identity.secret", IDENTITY_SECRET));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("게이트웨이가 서명한 회원 키는 토큰 없이 사용한다.")
+    @Test
+    void getUserKeyFromSignedHeader() throws Exception {
+        //given
+        String issuedAt = String.valueOf(System.currentTimeMillis());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Key", "user-key");
+        request.addHeader("X-User-Key-Issued-At", issuedAt);
+        request.addHeader("X-User-Key-Signature", sign("user-key." + issuedAt));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        //when
+        String userKey = tokenUtils.getUserKey();
+
+        //then
+        assertThat(userKey).isEqualTo("user-key");
+    }
+
+    @DisplayName("서명이 다르거나 오래된 사용자 헤더는 무시하고 토큰의 회원 키를 사용한다.")
+    @Test
+    void getUserKeyWithInvalidSignedHeader() throws Exception {
+        //given
+        String staleIssuedAt = String.valueOf(System.currentTimeMillis() - 120_000L);
+        MockHttpServletRequest forged = createRequest("other-user-key", String.valueOf(System.currentTimeMillis()), "forged");
+        MockHttpServletRequest stale = createRequest("other-user-key", staleIssuedAt, sign("other-user-key." + staleIssuedAt));
+
+        //when
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(forged));
+        String forgedUserKey = tokenUtils.getUserKey();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(stale));
+        String staleUserKey = tokenUtils.getUserKey();
+
+        //then
+        assertThat(forgedUserKey).isEqualTo("user-key");
+        assertThat(staleUserKey).isEqualTo("user-key");
+    }
+
+    private MockHttpServletRequest createRequest(String userKey, String issuedAt, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Key", userKey);
+        request.addHeader("X-User-Key-Issued-At", issuedAt);
+        request.addHeader("X-User-Key-Signature", signature);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + Jwts.builder()
+            .setSubject("user-key")
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact());
+        return request;
+    }
+
+    private String sign(String value) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(IDENTITY_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}